@@ -0,0 +1,28 @@
+package com.writeflow.auth.config;
+
+import com.writeflow.auth.service.HashingRejectedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+@RestControllerAdvice
+public class AuthExceptionHandler {
+
+    // 해싱 실행기 포화 → 429 (잠시 후 재시도)
+    @ExceptionHandler(HashingRejectedException.class)
+    public ResponseEntity<Object> handleHashingRejected(HashingRejectedException ex) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("error", "TooManyRequests");
+        body.put("message", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(body);
+    }
+}
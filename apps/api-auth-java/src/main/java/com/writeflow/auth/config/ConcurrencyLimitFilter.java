@@ -0,0 +1,90 @@
+package com.writeflow.auth.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동시 처리 요청 수 상한 (bulkhead)
+ * - 가상 스레드 모드에서는 Tomcat 스레드 수가 더 이상 상한이 아니므로,
+ *   요청이 무제한으로 들어와 HikariCP 커넥션 대기열에 쌓이는 것을 여기서 막음
+ * - 플랫폼 스레드 모드에서는 Tomcat 스레드 수가 이미 상한이므로 등록하지 않음
+ * - 허용치를 넘으면 잠깐(acquire-timeout-ms) 기다렸다가 그래도 안 되면 503
+ * - 상한을 지정하지 않으면 커넥션 풀 크기 × 2 (DB 를 안 쓰는 요청 몫을 조금 더 둠)
+ * - 보안 필터보다 먼저 실행 (인증 처리 전에 거절)
+ * - api-core-java 에 같은 필터가 있음: 두 서비스는 별도 Gradle 빌드라 공용 모듈 없이 복사해 둠 (고칠 때 함께 수정)
+ */
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    // max-in-flight 미지정(음수) 시 커넥션 1개당 허용 요청 수
+    private static final int PER_CONNECTION = 2;
+
+    private final Semaphore permits;
+    private final long acquireTimeoutMs;
+    private final boolean enabled;
+
+    public ConcurrencyLimitFilter(@Value("${writeflow.concurrency.max-in-flight:-1}") int maxInFlight,
+                                  @Value("${writeflow.concurrency.acquire-timeout-ms:200}") long acquireTimeoutMs,
+                                  @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize) {
+        if (maxInFlight < 0) {
+            maxInFlight = poolSize * PER_CONNECTION;
+        }
+        this.enabled = maxInFlight > 0;
+        this.permits = new Semaphore(Math.max(maxInFlight, 1));
+        this.acquireTimeoutMs = acquireTimeoutMs;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // 헬스체크 / 메트릭 수집은 과부하 중에도 통과
+        return !enabled || request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        if (!acquired) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader("Retry-After", "1");
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding("UTF-8");
+            response.getWriter().write("{\"timestamp\":\"" + LocalDateTime.now()
+                    + "\",\"error\":\"ServiceUnavailable\",\"message\":\"요청이 많아 잠시 후 다시 시도해주세요.\"}");
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+}
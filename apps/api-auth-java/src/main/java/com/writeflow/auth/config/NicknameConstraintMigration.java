@@ -0,0 +1,74 @@
+package com.writeflow.auth.config;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * users.nickname unique 제약(uk_users_nickname) 마이그레이션
+ * - ddl-auto: update 는 중복 닉네임이 이미 있으면 제약 추가에 실패하고 경고만 남긴 채 기동함
+ *   → 가입 중복 검사(AuthService)가 제약을 최종 방어선으로 쓰므로 제약 없이 뜨면 안 됨
+ * - 제약이 없으면 한 트랜잭션에서: 같은 닉네임 중 가장 먼저 가입한 사용자만 남기고 나머지는 "닉네임#id" 로 바꾼 뒤 제약 추가
+ * - 그래도 제약이 없으면 기동 실패
+ * - Hibernate 스키마 갱신(entityManagerFactory) 이후 실행
+ */
+@Component
+@DependsOn("entityManagerFactory")
+public class NicknameConstraintMigration {
+
+    private static final Logger log = LoggerFactory.getLogger(NicknameConstraintMigration.class);
+
+    static final String CONSTRAINT = "uk_users_nickname";
+    // 닉네임 길이 제한(50) 안에 접미사가 들어가도록 앞부분을 자름
+    private static final String RENAME_DUPLICATES_SQL = """
+            UPDATE users u
+               SET nickname = LEFT(u.nickname, 50 - LENGTH('#' || CAST(u.id AS VARCHAR))) || '#' || CAST(u.id AS VARCHAR)
+             WHERE EXISTS (SELECT 1 FROM users o WHERE o.nickname = u.nickname AND o.id < u.id)
+            """;
+    private static final String ADD_CONSTRAINT_SQL = "ALTER TABLE users ADD CONSTRAINT " + CONSTRAINT + " UNIQUE (nickname)";
+    private static final String EXISTS_SQL = """
+            SELECT COUNT(*) FROM information_schema.table_constraints
+             WHERE LOWER(table_name) = 'users' AND LOWER(constraint_name) = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public NicknameConstraintMigration(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @PostConstruct
+    public void migrate() {
+        if (constraintExists()) {
+            return;
+        }
+
+        try {
+            Integer renamed = transactionTemplate.execute(status -> {
+                int count = jdbcTemplate.update(RENAME_DUPLICATES_SQL);
+                jdbcTemplate.execute(ADD_CONSTRAINT_SQL);
+                return count;
+            });
+            log.warn("added {} (renamed {} duplicate nicknames)", CONSTRAINT, renamed);
+        } catch (DataAccessException e) {
+            // 다른 인스턴스가 동시에 추가했으면 아래 확인에서 통과
+            log.warn("failed to add {}: {}", CONSTRAINT, e.getMostSpecificCause().getMessage());
+        }
+
+        if (!constraintExists()) {
+            throw new IllegalStateException("users.nickname unique 제약(" + CONSTRAINT + ")을 추가하지 못했습니다.");
+        }
+    }
+
+    private boolean constraintExists() {
+        Integer count = jdbcTemplate.queryForObject(EXISTS_SQL, Integer.class, CONSTRAINT);
+        return count != null && count > 0;
+    }
+}
@@ -1,5 +1,6 @@
 package com.writeflow.auth.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -20,9 +21,10 @@ import java.util.List;
 @EnableWebSecurity
 public class SecurityConfig {
 
+    // work factor 를 올리면 기존 해시는 다음 로그인 때 새 설정으로 재해싱됨 (AuthService.login)
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${writeflow.auth.bcrypt.strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     @Bean
@@ -70,6 +72,7 @@ public class SecurityConfig {
                     "/swagger-ui/**", 
                     "/swagger-ui.html"
                 ).permitAll()
+                // Actuator (prod 는 공개하지 않는 management 포트에서만 응답 - metrics 는 외부 노출 없음)
                 .requestMatchers(
                     "/actuator/health", 
                     "/actuator/info"
@@ -77,7 +80,8 @@ public class SecurityConfig {
                 .requestMatchers(
                     "/signup", 
                     "/login", 
-                    "/refresh"
+                    "/refresh",
+                    "/availability"
                 ).permitAll()
                 .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                 .anyRequest().permitAll()
@@ -0,0 +1,76 @@
+package com.writeflow.auth.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 pinning 감시 (가상 스레드 모드에서만 동작)
+ * - JFR jdk.VirtualThreadPinned 이벤트 → 경고 로그 + writeflow.virtual.pinned 카운터
+ * - api-core-java 의 같은 클래스를 복사한 것 (별도 Gradle 빌드라 공용 모듈 없음, 고칠 때 함께 수정)
+ */
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+    private static final int MAX_FRAMES = 10;
+
+    private final Counter pinned;
+    private final Duration threshold;
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${writeflow.virtual-threads.pinned-threshold-ms:20}") long thresholdMs) {
+        this.pinned = Counter.builder("writeflow.virtual.pinned")
+                .description("Virtual thread pinned events above threshold")
+                .register(meterRegistry);
+        this.threshold = Duration.ofMillis(thresholdMs);
+    }
+
+    @PostConstruct
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable("jdk.VirtualThreadPinned").withThreshold(threshold).withStackTrace();
+        stream.onEvent("jdk.VirtualThreadPinned", event -> {
+            pinned.increment();
+            log.warn("virtual thread pinned for {} ms\n{}",
+                    event.getDuration().toMillis(), format(event.getStackTrace()));
+        });
+        stream.startAsync();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    private String format(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "\t(no stack trace)";
+        }
+        return stackTrace.getFrames().stream()
+                .limit(MAX_FRAMES)
+                .map(this::formatFrame)
+                .collect(Collectors.joining("\n"));
+    }
+
+    private String formatFrame(RecordedFrame frame) {
+        return "\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+}
@@ -22,6 +22,16 @@ public class AuthController {
         return ResponseEntity.ok(response);
     }
 
+    // 가입 폼 입력 중 사용 가능 여부  GET /availability?email=&username=&nickname=
+    @GetMapping("/availability")
+    public ResponseEntity<AvailabilityResponse> availability(
+            @RequestParam(required = false) String email,
+            @RequestParam(required = false) String username,
+            @RequestParam(required = false) String nickname
+    ) {
+        return ResponseEntity.ok(authService.checkAvailability(email, username, nickname));
+    }
+
     @PostMapping("/login")  // ✅ /login
     public ResponseEntity<TokenPair> login(@Valid @RequestBody LoginRequest request) {
         TokenPair tokens = authService.login(request);
@@ -11,7 +11,8 @@ import java.time.LocalDateTime;
         },
         uniqueConstraints = {
                 @UniqueConstraint(name = "uk_users_username", columnNames = "username"),
-                @UniqueConstraint(name = "uk_users_email",    columnNames = "email")
+                @UniqueConstraint(name = "uk_users_email",    columnNames = "email"),
+                @UniqueConstraint(name = "uk_users_nickname", columnNames = "nickname")
         }
 )
 
@@ -50,5 +51,10 @@ public class User {
     public String getPassword() { return password; }
     public String getNickname() { return nickname; }
     public LocalDateTime getCreatedAt() { return createdAt; }
+
+    // 비밀번호 해시 교체 (work factor 변경 시 재해싱)
+    public void changePassword(String encodedPassword) {
+        this.password = encodedPassword;
+    }
 }
 
@@ -38,5 +38,11 @@ public class AuthDtos {
             String username,
             String nickname
     ) {}
-}
 
+    // 사용 가능 여부 (요청하지 않은 항목은 null)
+    public record AvailabilityResponse(
+            Boolean emailAvailable,
+            Boolean usernameAvailable,
+            Boolean nicknameAvailable
+    ) {}
+}
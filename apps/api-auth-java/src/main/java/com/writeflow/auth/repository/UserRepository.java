@@ -2,7 +2,10 @@ package com.writeflow.auth.repository;
 
 import com.writeflow.auth.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -12,5 +15,12 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByNickname(String nickname);
 
     Optional<User> findByUsername(String username);
+
+    // 이메일 / 아이디 / 닉네임 중복을 쿼리 한 번으로 확인 (겹치는 사용자의 세 값, 최대 3행)
+    @Query("select u.email, u.username, u.nickname from User u "
+            + "where u.email = :email or u.username = :username or u.nickname = :nickname")
+    List<Object[]> findTakenNames(@Param("email") String email,
+                                  @Param("username") String username,
+                                  @Param("nickname") String nickname);
 }
 
@@ -4,38 +4,48 @@ import com.writeflow.auth.domain.User;
 import com.writeflow.auth.dto.AuthDtos.*;
 import com.writeflow.auth.jwt.JwtTokenProvider;
 import com.writeflow.auth.repository.UserRepository;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import com.writeflow.auth.service.TakenNameIndex.Field;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Locale;
+
 @Service
 @Transactional
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JwtTokenProvider jwtTokenProvider;
+    private final TakenNameIndex takenNameIndex;
 
     public AuthService(UserRepository userRepository,
-                       PasswordEncoder passwordEncoder,
-                       JwtTokenProvider jwtTokenProvider) {
+                       PasswordHasher passwordHasher,
+                       JwtTokenProvider jwtTokenProvider,
+                       TakenNameIndex takenNameIndex) {
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHasher = passwordHasher;
         this.jwtTokenProvider = jwtTokenProvider;
+        this.takenNameIndex = takenNameIndex;
     }
 
+    // 해싱하는 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션 없이 실행 (저장은 repository 트랜잭션)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserResponse signup(SignupRequest request) {
-        if (userRepository.existsByEmail(request.email())) {
-            throw new IllegalArgumentException("이미 사용 중인 이메일입니다.");
-        }
-        if (userRepository.existsByUsername(request.username())) {
-            throw new IllegalArgumentException("이미 사용 중인 아이디입니다.");
+        // 해싱 전에 중복 확인 (Bloom filter 가 셋 다 확실히 없다고 하면 DB 조회 생략)
+        if (mightBeTaken(request.email(), request.username(), request.nickname())) {
+            List<Object[]> taken = userRepository.findTakenNames(
+                    request.email(), request.username(), request.nickname());
+            if (!taken.isEmpty()) {
+                throw new IllegalArgumentException(takenMessage(taken, request));
+            }
         }
-	if (userRepository.existsByNickname(request.nickname())) {
-	    throw new IllegalArgumentException("이미 사용 중인 닉네임입니다.");
-	}
 
-        String hashed = passwordEncoder.encode(request.password());
+        String hashed = passwordHasher.encode(request.password());
         User user = new User(
                 request.email(),
                 request.username(),
@@ -43,7 +53,14 @@ public class AuthService {
                 request.nickname()
         );
 
-        User saved = userRepository.save(user);
+        User saved;
+        try {
+            saved = userRepository.save(user);
+        } catch (DataIntegrityViolationException e) {
+            // 확인 이후 동시에 가입한 경우 - unique 제약 이름으로 메시지 결정
+            throw new IllegalArgumentException(constraintMessage(e));
+        }
+        takenNameIndex.add(saved.getEmail(), saved.getUsername(), saved.getNickname());
 
         return new UserResponse(
                 saved.getId(),
@@ -53,15 +70,91 @@ public class AuthService {
         );
     }
 
+    // 가입 폼 입력 중 사용 가능 여부 확인
+    // - Bloom filter 가 "없음"이면 DB 조회 없이 사용 가능, "있을 수도 있음"인 항목만 쿼리 한 번으로 확인
+    @Transactional(readOnly = true)
+    public AvailabilityResponse checkAvailability(String email, String username, String nickname) {
+        String emailQuery = blankToNull(email);
+        String usernameQuery = blankToNull(username);
+        String nicknameQuery = blankToNull(nickname);
+
+        boolean checkEmail = emailQuery != null && takenNameIndex.mightBeTaken(Field.EMAIL, emailQuery);
+        boolean checkUsername = usernameQuery != null && takenNameIndex.mightBeTaken(Field.USERNAME, usernameQuery);
+        boolean checkNickname = nicknameQuery != null && takenNameIndex.mightBeTaken(Field.NICKNAME, nicknameQuery);
+
+        List<Object[]> taken = (checkEmail || checkUsername || checkNickname)
+                ? userRepository.findTakenNames(
+                        checkEmail ? emailQuery : null,
+                        checkUsername ? usernameQuery : null,
+                        checkNickname ? nicknameQuery : null)
+                : List.of();
+
+        return new AvailabilityResponse(
+                emailQuery == null ? null : !(checkEmail && anyMatch(taken, 0, emailQuery)),
+                usernameQuery == null ? null : !(checkUsername && anyMatch(taken, 1, usernameQuery)),
+                nicknameQuery == null ? null : !(checkNickname && anyMatch(taken, 2, nicknameQuery))
+        );
+    }
+
+    private boolean mightBeTaken(String email, String username, String nickname) {
+        return takenNameIndex.mightBeTaken(Field.EMAIL, email)
+                || takenNameIndex.mightBeTaken(Field.USERNAME, username)
+                || takenNameIndex.mightBeTaken(Field.NICKNAME, nickname);
+    }
+
+    // 기존 순서(이메일 → 아이디 → 닉네임)대로 첫 번째 중복 항목 메시지
+    private static String takenMessage(List<Object[]> taken, SignupRequest request) {
+        if (anyMatch(taken, 0, request.email())) {
+            return "이미 사용 중인 이메일입니다.";
+        }
+        if (anyMatch(taken, 1, request.username())) {
+            return "이미 사용 중인 아이디입니다.";
+        }
+        return "이미 사용 중인 닉네임입니다.";
+    }
+
+    private static String constraintMessage(DataIntegrityViolationException e) {
+        String name = (e.getCause() instanceof ConstraintViolationException cve && cve.getConstraintName() != null)
+                ? cve.getConstraintName()
+                : String.valueOf(e.getMostSpecificCause().getMessage());
+        name = name.toLowerCase(Locale.ROOT);
+
+        if (name.contains("uk_users_email")) {
+            return "이미 사용 중인 이메일입니다.";
+        }
+        if (name.contains("uk_users_username")) {
+            return "이미 사용 중인 아이디입니다.";
+        }
+        if (name.contains("uk_users_nickname")) {
+            return "이미 사용 중인 닉네임입니다.";
+        }
+        return "이미 사용 중인 정보입니다.";
+    }
+
+    private static boolean anyMatch(List<Object[]> rows, int column, String value) {
+        return rows.stream().anyMatch(row -> value.equals(row[column]));
+    }
+
+    private static String blankToNull(String value) {
+        return (value == null || value.isBlank()) ? null : value;
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TokenPair login(LoginRequest request) {
 
         User user = userRepository.findByUsername(request.username())
                 .orElseThrow(() -> new IllegalArgumentException("아이디 또는 비밀번호가 올바르지 않습니다.1"));
 
-        if (!passwordEncoder.matches(request.password(), user.getPassword())) {
+        if (!passwordHasher.matches(request.password(), user.getPassword())) {
             throw new IllegalArgumentException("아이디 또는 비밀번호가 올바르지 않습니다.2");
         }
 
+        // work factor 설정이 바뀌었으면 평문을 알고 있는 지금 새 설정으로 재해싱
+        if (passwordHasher.needsRehash(user.getPassword())) {
+            user.changePassword(passwordHasher.encode(request.password()));
+            userRepository.save(user);
+        }
+
         String access = jwtTokenProvider.createAccessToken(user.getId(), user.getUsername());
         String refresh = jwtTokenProvider.createRefreshToken(user.getId(), user.getUsername());
 
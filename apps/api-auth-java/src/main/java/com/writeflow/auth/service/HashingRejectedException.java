@@ -0,0 +1,11 @@
+package com.writeflow.auth.service;
+
+/**
+ * 비밀번호 해싱 작업 큐가 가득 차서(또는 대기 시간 초과로) 거절됨 → 429
+ */
+public class HashingRejectedException extends RuntimeException {
+
+    public HashingRejectedException() {
+        super("요청이 많아 잠시 후 다시 시도해주세요.");
+    }
+}
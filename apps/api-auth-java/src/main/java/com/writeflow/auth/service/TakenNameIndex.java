@@ -0,0 +1,115 @@
+package com.writeflow.auth.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용 중인 이메일 / 아이디 / 닉네임 Bloom filter
+ * - "없음" 답은 확실하므로 DB 조회 없이 사용 가능으로 처리, "있을 수도 있음"만 DB 확인
+ * - 기동 시 users 에서 적재, 가입 성공 시 추가
+ * - 다른 인스턴스(또는 api-core-java 시드)의 가입은 주기적 재구성으로 따라잡음
+ *   (그 사이 "사용 가능"으로 잘못 답해도 가입 시 unique 제약이 최종 방어선)
+ * - 적재 전에는 항상 "있을 수도 있음" → DB 확인
+ */
+@Component
+public class TakenNameIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(TakenNameIndex.class);
+    private static final String LOAD_SQL = "SELECT email, username, nickname FROM users";
+
+    public enum Field { EMAIL, USERNAME, NICKNAME }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long expectedInsertions;
+    private final double fpp;
+
+    private volatile Filters filters;
+    // 재구성 중인 필터 (그 사이 가입분도 같이 넣음)
+    private volatile Filters building;
+
+    public TakenNameIndex(JdbcTemplate jdbcTemplate,
+                          @Value("${writeflow.auth.availability.expected-users:1000000}") long expectedInsertions,
+                          @Value("${writeflow.auth.availability.fpp:0.01}") double fpp) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.expectedInsertions = expectedInsertions;
+        this.fpp = fpp;
+    }
+
+    public boolean mightBeTaken(Field field, String value) {
+        Filters current = filters;
+        if (current == null || value == null) {
+            return true;
+        }
+        return current.of(field).mightContain(value);
+    }
+
+    // 가입이 커밋된 뒤 호출
+    // building 을 filters 보다 먼저 읽음: rebuild 는 filters 교체 후 building 을 비우므로
+    // building 이 비어 보이면 filters 는 이미 새 필터이거나, 아직 시작 전인 재구성이 이 가입을 조회로 읽음
+    // (반대 순서면 교체 직전의 filters 와 비워진 building 을 읽어 새 필터에서 빠질 수 있음)
+    public void add(String email, String username, String nickname) {
+        Filters next = building;
+        Filters current = filters;
+        if (next != null) {
+            next.add(email, username, nickname);
+        }
+        if (current != null && current != next) {
+            current.add(email, username, nickname);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            fixedDelayString = "${writeflow.auth.availability.rebuild-interval-ms:600000}",
+            initialDelayString = "${writeflow.auth.availability.rebuild-interval-ms:600000}"
+    )
+    public void rebuild() {
+        Filters fresh = new Filters(
+                new BloomFilter(expectedInsertions, fpp),
+                new BloomFilter(expectedInsertions, fpp),
+                new BloomFilter(expectedInsertions, fpp));
+        building = fresh;
+        try {
+            int[] count = {0};
+            jdbcTemplate.query(LOAD_SQL, (RowCallbackHandler) rs -> {
+                fresh.add(rs.getString(1), rs.getString(2), rs.getString(3));
+                count[0]++;
+            });
+            filters = fresh;
+            log.debug("taken name index rebuilt: {} users", count[0]);
+        } finally {
+            building = null;
+        }
+    }
+
+    private record Filters(BloomFilter emails, BloomFilter usernames, BloomFilter nicknames) {
+
+        BloomFilter of(Field field) {
+            return switch (field) {
+                case EMAIL -> emails;
+                case USERNAME -> usernames;
+                case NICKNAME -> nicknames;
+            };
+        }
+
+        // null 값은 조회될 일이 없으므로 건너뜀 (mightBeTaken 은 null 이면 항상 true)
+        void add(String email, String username, String nickname) {
+            if (email != null) {
+                emails.add(email);
+            }
+            if (username != null) {
+                usernames.add(username);
+            }
+            if (nickname != null) {
+                nicknames.add(nickname);
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.writeflow.auth.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NicknameConstraintMigrationTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private NicknameConstraintMigration migration;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE users (id BIGINT PRIMARY KEY, nickname VARCHAR(50) NOT NULL)");
+        migration = new NicknameConstraintMigration(jdbcTemplate,
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)));
+    }
+
+    @Test
+    void duplicatesAreRenamedExceptTheOldestAndConstraintIsAdded() {
+        insert(1, "앨리스");
+        insert(2, "밥");
+        insert(3, "앨리스");
+        insert(4, "앨리스");
+        insert(5, "x".repeat(50));
+        insert(6, "x".repeat(50));
+
+        migration.migrate();
+
+        assertThat(nickname(1)).isEqualTo("앨리스");
+        assertThat(nickname(2)).isEqualTo("밥");
+        assertThat(nickname(3)).isEqualTo("앨리스#3");
+        assertThat(nickname(4)).isEqualTo("앨리스#4");
+        assertThat(nickname(5)).isEqualTo("x".repeat(50));
+        assertThat(nickname(6)).isEqualTo("x".repeat(48) + "#6");
+        assertThatThrownBy(() -> insert(7, "밥")).isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void existingConstraintIsLeftAlone() {
+        migration.migrate();
+        insert(1, "앨리스");
+
+        migration.migrate();
+
+        assertThatThrownBy(() -> insert(2, "앨리스")).isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void startupFailsWhenConstraintCannotBeAdded() {
+        // 바꾼 이름이 기존 닉네임과 겹치면 제약 추가 실패 → 기동 실패 (PostgreSQL 은 이름 변경도 롤백, H2 는 DDL 이 커밋함)
+        insert(1, "앨리스");
+        insert(2, "앨리스");
+        insert(3, "앨리스#2");
+
+        assertThatThrownBy(migration::migrate).isInstanceOf(IllegalStateException.class);
+    }
+
+    private void insert(long id, String nickname) {
+        jdbcTemplate.update("INSERT INTO users (id, nickname) VALUES (?, ?)", id, nickname);
+    }
+
+    private String nickname(long id) {
+        return jdbcTemplate.queryForObject("SELECT nickname FROM users WHERE id = ?", String.class, id);
+    }
+}
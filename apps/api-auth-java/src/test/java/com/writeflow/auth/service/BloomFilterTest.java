@@ -0,0 +1,53 @@
+package com.writeflow.auth.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    @Test
+    void everyAddedValueIsReported() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.add("user" + i + "@example.com");
+        }
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("user" + i + "@example.com")).isTrue();
+        }
+    }
+
+    @Test
+    void noFalseNegativesWhenOverfilled() {
+        // 예상치의 10배를 넣어 오탐률이 커져도 들어간 값은 항상 true
+        BloomFilter filter = new BloomFilter(100, 0.01);
+        for (int i = 0; i < 1_000; i++) {
+            filter.add("닉네임" + i);
+        }
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(filter.mightContain("닉네임" + i)).isTrue();
+        }
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTarget() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.add("taken-" + i);
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("free-" + i)) {
+                falsePositives++;
+            }
+        }
+        assertThat(falsePositives).isLessThan(2_000);
+    }
+
+    @Test
+    void emptyFilterContainsNothing() {
+        BloomFilter filter = new BloomFilter(1_000, 0.01);
+        assertThat(filter.mightContain("anyone")).isFalse();
+        assertThat(filter.mightContain("")).isFalse();
+    }
+}
@@ -0,0 +1,156 @@
+package com.writeflow.auth.service;
+
+import com.writeflow.auth.service.TakenNameIndex.Field;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TakenNameIndexTest {
+
+    @Test
+    void beforeFirstLoadEverythingMightBeTaken() {
+        TakenNameIndex index = new TakenNameIndex(new UsersTable(), 1_000, 0.01);
+        assertThat(index.mightBeTaken(Field.EMAIL, "a@example.com")).isTrue();
+    }
+
+    @Test
+    void loadedAndAddedNamesAreTaken() {
+        UsersTable users = new UsersTable();
+        users.insert("a@example.com", "alice", "앨리스");
+        TakenNameIndex index = new TakenNameIndex(users, 1_000, 0.01);
+        index.rebuild();
+
+        index.add("b@example.com", "bob", "밥");
+
+        assertThat(index.mightBeTaken(Field.EMAIL, "a@example.com")).isTrue();
+        assertThat(index.mightBeTaken(Field.USERNAME, "alice")).isTrue();
+        assertThat(index.mightBeTaken(Field.NICKNAME, "앨리스")).isTrue();
+        assertThat(index.mightBeTaken(Field.USERNAME, "bob")).isTrue();
+        assertThat(index.mightBeTaken(Field.NICKNAME, "밥")).isTrue();
+        assertThat(index.mightBeTaken(Field.USERNAME, "carol")).isFalse();
+        // 필드별로 따로 관리
+        assertThat(index.mightBeTaken(Field.NICKNAME, "alice")).isFalse();
+    }
+
+    @Test
+    void nullValuesAreSkipped() {
+        UsersTable users = new UsersTable();
+        users.insert("a@example.com", "alice", null);
+        TakenNameIndex index = new TakenNameIndex(users, 1_000, 0.01);
+        index.rebuild();
+
+        index.add("b@example.com", null, null);
+
+        assertThat(index.mightBeTaken(Field.EMAIL, "b@example.com")).isTrue();
+        assertThat(index.mightBeTaken(Field.USERNAME, null)).isTrue();
+    }
+
+    @Test
+    void signupDuringRebuildIsKeptAfterSwap() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch signedUp = new CountDownLatch(1);
+        UsersTable users = new UsersTable() {
+            @Override
+            public void query(String sql, RowCallbackHandler handler) {
+                loading.countDown();
+                await(signedUp);
+                super.query(sql, handler);
+            }
+        };
+        users.insert("a@example.com", "alice", "앨리스");
+        TakenNameIndex index = new TakenNameIndex(users, 1_000, 0.01);
+
+        Thread rebuild = new Thread(index::rebuild);
+        rebuild.start();
+        await(loading);
+        // 조회가 끝나기 전에 다른 요청의 가입 완료 (이 행은 조회 결과에 없음)
+        index.add("b@example.com", "bob", "밥");
+        signedUp.countDown();
+        rebuild.join(TimeUnit.SECONDS.toMillis(10));
+
+        assertThat(index.mightBeTaken(Field.USERNAME, "alice")).isTrue();
+        assertThat(index.mightBeTaken(Field.USERNAME, "bob")).isTrue();
+    }
+
+    @Test
+    void concurrentSignupsSurviveRepeatedRebuilds() throws Exception {
+        UsersTable users = new UsersTable();
+        TakenNameIndex index = new TakenNameIndex(users, 100_000, 0.01);
+        index.rebuild();
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread rebuilder = new Thread(() -> {
+            while (running.get()) {
+                index.rebuild();
+            }
+        });
+        rebuilder.start();
+        try {
+            for (int i = 0; i < 20_000; i++) {
+                String name = "user" + i;
+                // 가입 흐름과 같은 순서: DB 저장(커밋) 후 필터에 추가
+                users.insert(name + "@example.com", name, null);
+                index.add(name + "@example.com", name, null);
+            }
+        } finally {
+            running.set(false);
+            rebuilder.join(TimeUnit.SECONDS.toMillis(10));
+        }
+
+        for (int i = 0; i < 20_000; i++) {
+            assertThat(index.mightBeTaken(Field.USERNAME, "user" + i)).as("user" + i).isTrue();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // users 테이블 대신 메모리 목록을 읽는 JdbcTemplate
+    private static class UsersTable extends JdbcTemplate {
+
+        private final List<String[]> rows = new CopyOnWriteArrayList<>();
+
+        void insert(String email, String username, String nickname) {
+            rows.add(new String[] {email, username, nickname});
+        }
+
+        @Override
+        public void query(String sql, RowCallbackHandler handler) {
+            try {
+                for (String[] row : rows) {
+                    handler.processRow(resultSet(row));
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        // getString(컬럼 번호)만 지원하는 한 행짜리 ResultSet
+        private static ResultSet resultSet(String[] row) {
+            return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[] {ResultSet.class},
+                    (proxy, method, args) -> {
+                        if (method.getName().equals("getString") && args[0] instanceof Integer column) {
+                            return row[column - 1];
+                        }
+                        throw new UnsupportedOperationException(method.getName());
+                    });
+        }
+    }
+}
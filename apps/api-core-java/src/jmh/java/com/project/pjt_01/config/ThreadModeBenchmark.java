@@ -0,0 +1,114 @@
+package com.project.pjt_01.config;
+
+import com.project.pjt_01.WriteflowApplication;
+import com.project.pjt_01.domain.User;
+import com.project.pjt_01.dto.post.PostDtos.PostCreateRequest;
+import com.project.pjt_01.repository.UserRepository;
+import com.project.pjt_01.service.PostService;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 플랫폼 스레드 vs 가상 스레드 요청 처리량 비교
+ * - 같은 시드 데이터로 서버를 띄우고 256개 동시 클라이언트가 GET /api/posts 호출
+ * - H2 메모리 DB는 I/O 대기가 거의 없어서 차이가 작게 나옴
+ *   → 실제 비교는 -Dbench.datasource.url=jdbc:postgresql://... 로 Postgres 를 지정해서 실행
+ * - 피드 캐시 / 타임라인 인덱스 / JSON 캐시는 끔 (켜 두면 캐시 적중만 재게 되어 DB 대기가 없음)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Threads(256)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 20)
+public class ThreadModeBenchmark {
+
+    private static final String SECRET = "jmh-benchmark-secret-key-at-least-32-bytes!";
+
+    @Param({"false", "true"})
+    public String virtualThreads;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest feedRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.profiles.active=dev",
+                "--server.port=0",
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                // 빈 schema.sql 을 내장 H2 에 실행하면 기동 실패 (테이블은 ddl-auto 로 생성)
+                "--spring.sql.init.mode=never",
+                "--spring.jpa.properties.hibernate.show_sql=false",
+                "--spring.jpa.properties.hibernate.format_sql=false",
+                "--jwt.secret=" + SECRET,
+                "--logging.level.root=WARN",
+                "--writeflow.feed-cache.enabled=false",
+                "--writeflow.timeline-index.enabled=false",
+                "--writeflow.json-cache.enabled=false"
+        ));
+        String url = System.getProperty("bench.datasource.url");
+        if (url != null) {
+            args.add("--spring.datasource.url=" + url);
+            args.add("--spring.datasource.username=" + System.getProperty("bench.datasource.username", "writeflow"));
+            args.add("--spring.datasource.password=" + System.getProperty("bench.datasource.password", "writeflow"));
+            args.add("--spring.datasource.driver-class-name=org.postgresql.Driver");
+        } else {
+            args.add("--spring.datasource.url=jdbc:h2:mem:threadmode-" + virtualThreads + ";DB_CLOSE_DELAY=-1");
+        }
+
+        context = new SpringApplicationBuilder(WriteflowApplication.class).run(args.toArray(String[]::new));
+
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        PostService postService = context.getBean(PostService.class);
+        Long userId = userRepository.save(new User("threadmode", "threadmode@writeflow.dev", "x")).getId();
+        for (int i = 0; i < 200; i++) {
+            postService.createPost(userId,
+                    new PostCreateRequest("스레드 모드 비교용 글 " + i, "JOY", List.of("공감", "위로")));
+        }
+
+        String token = Jwts.builder()
+                .setSubject(userId.toString())
+                .setExpiration(new Date(System.currentTimeMillis() + 3_600_000L))
+                .addClaims(Map.of("username", "threadmode", "type", "access"))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .compact();
+
+        int port = Integer.parseInt(context.getBean(Environment.class).getProperty("local.server.port"));
+        client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        feedRequest = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/posts?page=0&size=20"))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int getFeed() throws Exception {
+        return client.send(feedRequest, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
@@ -0,0 +1,30 @@
+package com.project.pjt_01.domain;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Emotion.from / ButtonType.from 파싱 비용 (영문 코드 / 한글 라벨 / 공백 포함 입력)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class EnumParsingBenchmark {
+
+    @Param({"JOY", "ambition", "기쁨", " 야망 "})
+    public String emotionInput;
+
+    @Param({"EMPATHY", "dislike", "공감", " 싫음 "})
+    public String buttonInput;
+
+    @Benchmark
+    public Emotion emotionFrom() {
+        return Emotion.from(emotionInput);
+    }
+
+    @Benchmark
+    public ButtonType buttonTypeFrom() {
+        return ButtonType.from(buttonInput);
+    }
+}
@@ -0,0 +1,63 @@
+package com.project.pjt_01.dto.post;
+
+import com.project.pjt_01.domain.ButtonType;
+import com.project.pjt_01.domain.Emotion;
+import com.project.pjt_01.domain.Post;
+import com.project.pjt_01.domain.PostButtonStat;
+import com.project.pjt_01.domain.User;
+import com.project.pjt_01.dto.post.PostDtos.ButtonStatDto;
+import com.project.pjt_01.dto.post.PostDtos.PostResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PostResponse / ButtonStatDto 매핑 비용 (피드 1건당 실행되는 경로)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class DtoMappingBenchmark {
+
+    private Post post;
+    private List<PostButtonStat> stats;
+    private PostButtonStat labeledStat;
+    private PostButtonStat unlabeledStat;
+
+    @Setup
+    public void setUp() {
+        User author = new User("bench", "bench@writeflow.dev", "x");
+        post = new Post(author, "오늘은 정말 기쁜 하루였어요. ".repeat(10), Emotion.JOY);
+
+        stats = new ArrayList<>();
+        ButtonType[] types = ButtonType.values();
+        for (int i = 0; i < 5; i++) {
+            PostButtonStat stat = new PostButtonStat(post, types[i], "버튼" + i);
+            for (int c = 0; c < i * 3; c++) {
+                stat.increase();
+            }
+            stats.add(stat);
+            post.addButtonStat(stat);
+        }
+
+        labeledStat = stats.get(0);
+        unlabeledStat = new PostButtonStat(post, ButtonType.COMFORT, null);
+    }
+
+    @Benchmark
+    public PostResponse postResponseFrom() {
+        return PostResponse.from(post, stats);
+    }
+
+    @Benchmark
+    public ButtonStatDto buttonStatDtoFromLabeled() {
+        return ButtonStatDto.from(labeledStat);
+    }
+
+    @Benchmark
+    public ButtonStatDto buttonStatDtoFromDefaultLabel() {
+        return ButtonStatDto.from(unlabeledStat);
+    }
+}
@@ -0,0 +1,57 @@
+package com.project.pjt_01.security;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 필터 경로의 JWT 처리 비용
+ * - getSubject: 서명 검증 + 파싱 (캐시 미스 경로)
+ * - resolveCached: PrincipalResolver 캐시 히트 경로
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class JwtParsingBenchmark {
+
+    private static final String SECRET = "jmh-benchmark-secret-key-at-least-32-bytes!";
+
+    private JwtTokenProvider provider;
+    private PrincipalResolver resolver;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        provider = new JwtTokenProvider(SECRET);
+        // claims 모드라 UserRepository 는 사용하지 않음
+        resolver = new PrincipalResolver(provider, null, "claims", 10_000, 3600);
+
+        long now = System.currentTimeMillis();
+        token = Jwts.builder()
+                .setSubject("42")
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + 3_600_000L))
+                .addClaims(Map.of("username", "bench", "type", "access"))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .compact();
+
+        resolver.resolve(token);
+    }
+
+    @Benchmark
+    public String getSubject() {
+        return provider.getSubject(token);
+    }
+
+    @Benchmark
+    public Optional<UserPrincipal> resolveCached() {
+        return resolver.resolve(token);
+    }
+}
@@ -0,0 +1,33 @@
+package com.project.pjt_01.service;
+
+import com.project.pjt_01.domain.Emotion;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PostService.getEmotionMessage (감정 × 메시지 종류 switch) 비용
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class EmotionMessageBenchmark {
+
+    @Param({"JOY", "SADNESS", "AMBITION"})
+    public Emotion emotion;
+
+    @Param({"ALREADY_CLICKED", "HIDDEN_POST"})
+    public String type;
+
+    private PostService.MessageType messageType;
+
+    @Setup
+    public void setUp() {
+        messageType = PostService.MessageType.valueOf(type);
+    }
+
+    @Benchmark
+    public String getEmotionMessage() {
+        return PostService.getEmotionMessage(emotion, messageType);
+    }
+}
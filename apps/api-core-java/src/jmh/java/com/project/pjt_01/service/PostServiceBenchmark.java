@@ -0,0 +1,133 @@
+package com.project.pjt_01.service;
+
+import com.project.pjt_01.WriteflowApplication;
+import com.project.pjt_01.domain.ButtonType;
+import com.project.pjt_01.domain.Emotion;
+import com.project.pjt_01.domain.User;
+import com.project.pjt_01.dto.post.PostDtos.*;
+import com.project.pjt_01.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PostService 주요 경로 end-to-end 측정 (내장 H2 + 시드 데이터)
+ * - 실제 트랜잭션 / JPA / 쿼리까지 포함한 비용
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class PostServiceBenchmark {
+
+    @Param({"2000"})
+    public int posts;
+
+    private ConfigurableApplicationContext context;
+    private PostService postService;
+    private Long authorId;
+    private Long samplePostId;
+    private Pageable firstPage;
+    private Pageable deepPage;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // application.yaml 보다 우선하도록 커맨드라인 인자로 전달
+        context = new SpringApplicationBuilder(WriteflowApplication.class)
+                .run(
+                        "--spring.profiles.active=dev",
+                        "--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:jmh;DB_CLOSE_DELAY=-1",
+                        // 빈 schema.sql 을 내장 H2 에 실행하면 기동 실패 (테이블은 ddl-auto 로 생성)
+                        "--spring.sql.init.mode=never",
+                        "--spring.jpa.properties.hibernate.show_sql=false",
+                        "--spring.jpa.properties.hibernate.format_sql=false",
+                        "--jwt.secret=jmh-benchmark-secret-key-at-least-32-bytes!",
+                        "--logging.level.root=WARN"
+                );
+
+        postService = context.getBean(PostService.class);
+        UserRepository userRepository = context.getBean(UserRepository.class);
+
+        List<Long> userIds = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            userIds.add(userRepository.save(new User("bench" + i, "bench" + i + "@writeflow.dev", "x")).getId());
+        }
+        authorId = userIds.get(0);
+
+        Random random = new Random(42);
+        Emotion[] emotions = Emotion.values();
+        List<String> labels = List.of("공감", "위로", "응원", "축하", "토닥");
+        for (int i = 0; i < posts; i++) {
+            Long author = userIds.get(random.nextInt(userIds.size()));
+            String emotion = emotions[random.nextInt(emotions.length)].name();
+            PostResponse created = postService.createPost(author,
+                    new PostCreateRequest("벤치마크 글 " + i + " 오늘의 감정 기록", emotion,
+                            labels.subList(0, 1 + random.nextInt(labels.size()))));
+            samplePostId = created.id();
+
+            // 일부 글에만 클릭 (유저당 1회)
+            if (i % 10 == 0) {
+                for (int u = 1; u < 6; u++) {
+                    postService.clickButton(userIds.get(u), created.id(), ButtonType.EMPATHY.name());
+                }
+            }
+        }
+
+        firstPage = PageRequest.of(0, 20, Sort.Direction.DESC, "createdAt");
+        deepPage = PageRequest.of(posts / 20 - 1, 20, Sort.Direction.DESC, "createdAt");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public PostListResponse getPostsFirstPage() {
+        return postService.getPosts(null, firstPage);
+    }
+
+    @Benchmark
+    public PostListResponse getPostsByEmotion() {
+        return postService.getPosts("JOY", firstPage);
+    }
+
+    @Benchmark
+    public PostListResponse getPostsDeepPage() {
+        return postService.getPosts(null, deepPage);
+    }
+
+    @Benchmark
+    public PostListResponse getPostsByCursorFirstPage() {
+        return postService.getPostsByCursor(null, "", 20);
+    }
+
+    @Benchmark
+    public PostListResponse getMyPosts() {
+        return postService.getMyPosts(authorId, null, firstPage);
+    }
+
+    @Benchmark
+    public PostResponse getPost() {
+        return postService.getPost(samplePostId);
+    }
+
+    @Benchmark
+    public List<EmotionStatResponse> getEmotionStats() {
+        return postService.getEmotionStats();
+    }
+
+    @Benchmark
+    public PostResponse createPost() {
+        return postService.createPost(authorId,
+                new PostCreateRequest("벤치마크 작성", "LOVE", List.of("공감", "위로", "응원")));
+    }
+}
@@ -0,0 +1,78 @@
+package com.project.pjt_01.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 / 쓰기 DataSource 분리 (writeflow.datasource.routing.enabled=true 일 때만)
+ * - primary: 기존 spring.datasource 설정 그대로
+ * - replicas: writeflow.datasource.replica-urls (쉼표 구분), 계정은 primary 와 동일
+ * - 애플리케이션이 쓰는 DataSource = LazyConnectionDataSourceProxy(ReplicaRoutingDataSource)
+ */
+@Configuration
+@ConditionalOnProperty(name = "writeflow.datasource.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            DataSourceProperties properties,
+            MeterRegistry meterRegistry,
+            @Value("${writeflow.datasource.replica-urls:}") List<String> replicaUrls,
+            @Value("${writeflow.datasource.replica-pool-size:10}") int replicaPoolSize,
+            @Value("${writeflow.datasource.max-lag-ms:1000}") long maxLagMs,
+            @Value("${writeflow.datasource.sticky-ms:3000}") long stickyMs) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (String url : replicaUrls) {
+            if (url.isBlank()) {
+                continue;
+            }
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + (replicas.size() + 1));
+            replica.setJdbcUrl(url.trim());
+            replica.setUsername(properties.determineUsername());
+            replica.setPassword(properties.determinePassword());
+            replica.setMaximumPoolSize(replicaPoolSize);
+            replica.setConnectionTimeout(primaryDataSource.getConnectionTimeout());
+            replica.setReadOnly(true);
+            replicas.add(replica);
+        }
+
+        ReplicaRoutingDataSource routing =
+                new ReplicaRoutingDataSource(primaryDataSource, replicas, maxLagMs, stickyMs);
+        for (String key : routing.replicaKeys()) {
+            Gauge.builder("writeflow.datasource.replica.lag", routing, r -> r.lagOf(key))
+                    .tag("replica", key)
+                    .baseUnit("milliseconds")
+                    .description("Replica replay lag (-1 = check failed)")
+                    .register(meterRegistry);
+        }
+        return routing;
+    }
+
+    // 트랜잭션 readOnly 플래그가 정해진 뒤(첫 쿼리 시점)에 실제 커넥션을 고르도록 지연 프록시로 감쌈
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
@@ -0,0 +1,30 @@
+package com.project.pjt_01.config;
+
+import com.project.pjt_01.metrics.QueryCountInterceptor;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class MetricsConfig implements WebMvcConfigurer {
+
+    private final QueryCountInterceptor queryCountInterceptor;
+
+    public MetricsConfig(QueryCountInterceptor queryCountInterceptor) {
+        this.queryCountInterceptor = queryCountInterceptor;
+    }
+
+    // @Timed 붙은 서비스 메서드 측정 (PostService 등)
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(queryCountInterceptor).addPathPatterns("/api/**");
+    }
+}
@@ -0,0 +1,25 @@
+package com.project.pjt_01.config;
+
+import com.project.pjt_01.domain.id.TimeOrderedIds;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * dev 가 아닌 환경에서 WRITEFLOW_NODE_ID 가 없으면 기동 실패
+ * - 없으면 모든 인스턴스가 노드 0 → 같은 ms 에 같은 PK 발급 (posts / button_clicks / 롤업 insert 중복 키 오류)
+ * - 범위(0~14) 검사는 TimeOrderedIds 가 첫 사용 시 수행
+ */
+@Component
+@Profile("!dev")
+public class NodeIdCheck {
+
+    public NodeIdCheck() {
+        if (!TimeOrderedIds.isNodeConfigured()) {
+            throw new IllegalStateException(
+                    "WRITEFLOW_NODE_ID 가 설정되지 않았습니다. 인스턴스마다 다른 노드 번호(0~"
+                            + (TimeOrderedIds.SEED_NODE - 1) + ")를 지정해주세요.");
+        }
+        // 범위를 벗어난 값도 요청 처리 전에 실패하도록 여기서 초기화
+        TimeOrderedIds.next();
+    }
+}
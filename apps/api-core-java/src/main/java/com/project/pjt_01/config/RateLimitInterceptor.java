@@ -0,0 +1,165 @@
+package com.project.pjt_01.config;
+
+import com.project.pjt_01.security.UserPrincipal;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 쓰기 엔드포인트 요청 빈도 제한 (인스턴스별, 메모리 토큰 버킷)
+ * - 클릭 / 신고 / 글 작성은 요청마다 DB 왕복이 여러 번이라 한 클라이언트가 몰아치면 커넥션 풀을 다 씀
+ * - 사용자 ID 버킷과 클라이언트 IP 버킷을 둘 다 통과해야 허용
+ *   IP 버킷은 NAT 뒤 여러 사용자를 고려해 사용자 한도의 ip-factor 배 (여러 계정으로 돌려 쓰는 경우 차단)
+ *   사용자 버킷을 먼저 확인 → 자기 한도에 걸린 사용자가 같은 IP 의 다른 사용자 몫을 쓰지 않음
+ *   (IP 버킷에서 거절되면 사용자 버킷에서 쓴 토큰은 되돌림)
+ * - 보안 필터 뒤 / 컨트롤러 앞에서 실행 → 거절된 요청은 트랜잭션 / 커넥션을 잡지 않고 429 + Retry-After
+ * - 인스턴스마다 따로 세므로 실제 한도는 (인스턴스 수 × 설정값)까지 늘어날 수 있음
+ */
+@Component
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private final boolean enabled;
+    private final boolean trustProxyHeaders;
+    private final int ipFactor;
+    private final RateLimiter limiter;
+    private final MeterRegistry meterRegistry;
+    // "POST /api/posts/{postId}/report" 처럼 메서드 + 매핑 패턴 → 규칙
+    private final Map<String, Rule> rules = new HashMap<>();
+
+    public RateLimitInterceptor(MeterRegistry meterRegistry,
+                                @Value("${writeflow.rate-limit.enabled:true}") boolean enabled,
+                                @Value("${writeflow.rate-limit.max-keys:100000}") long maxKeys,
+                                @Value("${writeflow.rate-limit.ip-factor:5}") int ipFactor,
+                                @Value("${writeflow.rate-limit.trust-proxy-headers:false}") boolean trustProxyHeaders,
+                                @Value("${writeflow.rate-limit.click.per-minute:60}") int clickPerMinute,
+                                @Value("${writeflow.rate-limit.click.burst:20}") int clickBurst,
+                                @Value("${writeflow.rate-limit.report.per-minute:5}") int reportPerMinute,
+                                @Value("${writeflow.rate-limit.report.burst:3}") int reportBurst,
+                                @Value("${writeflow.rate-limit.create-post.per-minute:6}") int postPerMinute,
+                                @Value("${writeflow.rate-limit.create-post.burst:3}") int postBurst) {
+        if (ipFactor < 1) {
+            throw new IllegalArgumentException("writeflow.rate-limit.ip-factor 는 1 이상이어야 합니다.");
+        }
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.ipFactor = ipFactor;
+        this.trustProxyHeaders = trustProxyHeaders;
+
+        Rule click = new Rule("click", clickPerMinute, clickBurst);
+        Rule report = new Rule("report", reportPerMinute, reportBurst);
+        Rule createPost = new Rule("create-post", postPerMinute, postBurst);
+        rules.put("POST /api/posts/{postId}/buttons/{buttonType}", click);
+        rules.put("POST /api/botten", click);
+        rules.put("POST /api/posts/{postId}/report", report);
+        rules.put("POST /api/postreport", report);
+        rules.put("POST /api/posts", createPost);
+        rules.put("POST /api/post", createPost);
+
+        // 버킷이 다시 가득 차는 시간만큼 안 쓰면 제거 (IP 버킷도 간격 / burst 가 같은 비율이라 시간은 같음)
+        long refillNanos = rules.values().stream()
+                .mapToLong(r -> r.intervalNanos * r.burst)
+                .max()
+                .orElse(0L);
+        this.limiter = new RateLimiter(maxKeys, Duration.ofNanos(Math.max(refillNanos, TimeUnit.SECONDS.toNanos(1))));
+
+        Gauge.builder("writeflow.ratelimit.keys", limiter, RateLimiter::size)
+                .description("Rate limit buckets held in memory")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException {
+        if (!enabled) {
+            return true;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Rule rule = (pattern != null) ? rules.get(request.getMethod() + " " + pattern) : null;
+        if (rule == null) {
+            return true;
+        }
+
+        String userKey = null;
+        Long userId = currentUserId();
+        if (userId != null) {
+            userKey = rule.name + ":user:" + userId;
+            long waitNanos = limiter.tryAcquire(userKey, rule.intervalNanos, rule.burst);
+            if (waitNanos > 0) {
+                return reject(response, rule, "user", waitNanos);
+            }
+        }
+
+        long waitNanos = limiter.tryAcquire(rule.name + ":ip:" + clientIp(request),
+                rule.intervalNanos / ipFactor, rule.burst * ipFactor);
+        if (waitNanos == 0) {
+            return true;
+        }
+        if (userKey != null) {
+            limiter.refund(userKey, rule.intervalNanos);
+        }
+        return reject(response, rule, "ip", waitNanos);
+    }
+
+    private boolean reject(HttpServletResponse response, Rule rule, String scope, long waitNanos) throws IOException {
+        meterRegistry.counter("writeflow.ratelimit.rejected", "rule", rule.name, "scope", scope).increment();
+        long retryAfterSeconds = Math.max(1, (waitNanos + 999_999_999L) / 1_000_000_000L);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().write("{\"timestamp\":\"" + LocalDateTime.now()
+                + "\",\"error\":\"TooManyRequests\",\"message\":\"요청이 너무 잦습니다. 잠시 후 다시 시도해주세요.\"}");
+        return false;
+    }
+
+    private static Long currentUserId() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.getPrincipal() instanceof UserPrincipal principal) {
+            return principal.getId();
+        }
+        return null;
+    }
+
+    // 게이트웨이(nginx)가 X-Real-IP 에 실제 클라이언트 주소를 넣음
+    // 게이트웨이 뒤에서만 trust-proxy-headers=true (앱 포트에 직접 닿을 수 있으면 헤더를 위조해 IP 한도를 피할 수 있음)
+    private String clientIp(HttpServletRequest request) {
+        if (trustProxyHeaders) {
+            String realIp = request.getHeader("X-Real-IP");
+            if (realIp != null && !realIp.isBlank()) {
+                return realIp.trim();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    private static final class Rule {
+        private final String name;
+        private final long intervalNanos;
+        private final int burst;
+
+        private Rule(String name, int perMinute, int burst) {
+            if (perMinute < 1 || burst < 1) {
+                throw new IllegalArgumentException("writeflow.rate-limit." + name + " 의 per-minute / burst 는 1 이상이어야 합니다.");
+            }
+            this.name = name;
+            this.intervalNanos = TimeUnit.MINUTES.toNanos(1) / perMinute;
+            this.burst = burst;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.project.pjt_01.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 키별 토큰 버킷 (GCRA: 버킷 상태 = 다음 토큰이 채워지는 시각 하나)
+ * - 키마다 AtomicLong 하나를 CAS 로만 갱신 (락 없음, 리필 타이머 없음)
+ * - 키 저장소는 Caffeine: 최대 키 수 제한 + 마지막 접근 후 idle 시간이 지나면 제거
+ *   idle 을 버킷이 가득 차는 시간 이상으로 두면 제거돼도 상태 손실 없음 (다시 만들면 가득 찬 버킷)
+ *   키 수 상한에 걸려 활성 키가 밀려나면 그 키는 가득 찬 버킷으로 다시 시작 (허용 쪽으로 실패)
+ */
+final class RateLimiter {
+
+    private final Cache<String, AtomicLong> buckets;
+    private final LongSupplier nanoTime;
+
+    RateLimiter(long maxKeys, Duration idle) {
+        this(maxKeys, idle, System::nanoTime, false);
+    }
+
+    // 테스트용: 시계 주입, sameThreadEviction 이면 제거를 호출 스레드에서 바로 실행
+    RateLimiter(long maxKeys, Duration idle, LongSupplier nanoTime, boolean sameThreadEviction) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(idle)
+                .ticker(nanoTime::getAsLong);
+        if (sameThreadEviction) {
+            builder.executor(Runnable::run);
+        }
+        this.buckets = builder.build();
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * 토큰 하나 사용
+     * @param intervalNanos 토큰 하나가 채워지는 간격 (= 1 / 초당 허용 수)
+     * @param burst         한 번에 몰아서 쓸 수 있는 토큰 수 (버킷 크기)
+     * @return 0 이면 허용, 아니면 다음 토큰까지 남은 시간 (ns)
+     */
+    long tryAcquire(String key, long intervalNanos, int burst) {
+        long now = nanoTime.getAsLong();
+        AtomicLong tat = buckets.get(key, k -> new AtomicLong(now));
+        long capacityNanos = intervalNanos * burst;
+
+        while (true) {
+            long current = tat.get();
+            // 한동안 안 쓴 버킷은 now 기준 (그 사이 채워진 토큰은 burst 까지만)
+            long base = (current - now < 0) ? now : current;
+            long next = base + intervalNanos;
+            long over = (next - now) - capacityNanos;
+            if (over > 0) {
+                return over;
+            }
+            if (tat.compareAndSet(current, next)) {
+                return 0L;
+            }
+        }
+    }
+
+    /**
+     * 방금 쓴 토큰 하나 되돌림 (다른 버킷에서 거절돼 요청이 처리되지 않은 경우)
+     * 그 사이 버킷이 제거됐으면 이미 가득 찬 상태라 할 일 없음
+     */
+    void refund(String key, long intervalNanos) {
+        AtomicLong tat = buckets.getIfPresent(key);
+        if (tat != null) {
+            tat.addAndGet(-intervalNanos);
+        }
+    }
+
+    long size() {
+        buckets.cleanUp();
+        return buckets.estimatedSize();
+    }
+}
@@ -0,0 +1,195 @@
+package com.project.pjt_01.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.pjt_01.security.UserPrincipal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션은 복제본으로, 나머지는 primary 로 보내는 DataSource
+ * - LazyConnectionDataSourceProxy 뒤에 두어야 트랜잭션의 readOnly 플래그가 정해진 뒤 커넥션을 고름
+ * - 복제 지연이 max-lag-ms 를 넘거나 확인에 실패한 복제본은 제외 (전부 빠지면 primary)
+ * - read-your-writes: 쓰기 트랜잭션을 커밋한 사용자는 커밋 시점부터 sticky-ms 동안 읽기도 primary 로
+ * - 복제본 풀은 여기서 만든 것이므로 종료 시 같이 닫음
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    static final String PRIMARY = "primary";
+
+    // 복제 대기 중인 WAL 이 없으면 0, 있으면 마지막 재생 시점부터의 지연 (primary 에서 실행하면 null → 0)
+    private static final String POSTGRES_LAG_SQL = """
+            SELECT CASE
+                     WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                     ELSE COALESCE(EXTRACT(EPOCH FROM (now() - pg_last_xact_replay_timestamp())) * 1000, 0)
+                   END
+            """;
+
+    private final List<Replica> replicas = new ArrayList<>();
+    private final long maxLagMs;
+    private final Cache<Long, Boolean> recentWriters;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary,
+                                    List<DataSource> replicaDataSources,
+                                    long maxLagMs,
+                                    long stickyMs) {
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicaDataSources.size(); i++) {
+            Replica replica = new Replica("replica-" + (i + 1), replicaDataSources.get(i));
+            replicas.add(replica);
+            targets.put(replica.key, replica.dataSource);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+
+        this.maxLagMs = maxLagMs;
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(Duration.ofMillis(stickyMs))
+                .build();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Long userId = currentUserId();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (userId != null && TransactionSynchronizationManager.isActualTransactionActive()) {
+                markAfterCommit(userId);
+            }
+            return PRIMARY;
+        }
+
+        // 방금 쓴 사용자는 복제 지연과 상관없이 자기 글을 바로 보도록
+        if (userId != null && recentWriters.getIfPresent(userId) != null) {
+            return PRIMARY;
+        }
+
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(1, replicas.size()));
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (replica.healthy) {
+                return replica.key;
+            }
+        }
+        return PRIMARY;
+    }
+
+    // 커넥션을 잡을 때가 아니라 커밋 후부터 sticky-ms (긴 쓰기 트랜잭션도 커밋 직후 읽기는 primary)
+    // 트랜잭션당 한 번만 등록 (REQUIRES_NEW 로 일시 중단된 바깥 트랜잭션의 동기화는 목록에 안 보임)
+    private void markAfterCommit(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.getSynchronizations().stream().anyMatch(StickyWriter.class::isInstance)) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new StickyWriter(userId));
+    }
+
+    // 복제본별 지연 확인 (기동 직후부터, 첫 확인 전까지는 primary 사용)
+    @Scheduled(fixedDelayString = "${writeflow.datasource.lag-check-interval-ms:2000}")
+    public void checkReplicaLag() {
+        for (Replica replica : replicas) {
+            try (Connection con = replica.dataSource.getConnection()) {
+                long lag = lagMillis(con);
+                replica.lagMs = lag;
+                boolean healthy = lag <= maxLagMs;
+                if (replica.healthy != healthy) {
+                    log.info("{} {} (lag {} ms)", replica.key, healthy ? "back in rotation" : "removed from rotation", lag);
+                }
+                replica.healthy = healthy;
+            } catch (SQLException | RuntimeException e) {
+                if (replica.healthy) {
+                    log.warn("{} removed from rotation: {}", replica.key, e.getMessage());
+                }
+                replica.healthy = false;
+                replica.lagMs = -1;
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("failed to close {}: {}", replica.key, e.getMessage());
+                }
+            }
+        }
+    }
+
+    List<String> replicaKeys() {
+        return replicas.stream().map(r -> r.key).toList();
+    }
+
+    // 메트릭용 (-1 = 확인 실패)
+    long lagOf(String key) {
+        return replicas.stream().filter(r -> r.key.equals(key)).findFirst().map(r -> r.lagMs).orElse(-1L);
+    }
+
+    // 복제가 없는 DB(H2 등)는 지연 0
+    private static long lagMillis(Connection con) throws SQLException {
+        if (!"PostgreSQL".equals(con.getMetaData().getDatabaseProductName())) {
+            return 0L;
+        }
+        try (Statement st = con.createStatement(); ResultSet rs = st.executeQuery(POSTGRES_LAG_SQL)) {
+            return rs.next() ? (long) rs.getDouble(1) : 0L;
+        }
+    }
+
+    private static Long currentUserId() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.getPrincipal() instanceof UserPrincipal principal) {
+            return principal.getId();
+        }
+        return null;
+    }
+
+    private final class StickyWriter implements TransactionSynchronization {
+        private final Long userId;
+
+        StickyWriter(Long userId) {
+            this.userId = userId;
+        }
+
+        @Override
+        public void afterCommit() {
+            recentWriters.put(userId, Boolean.TRUE);
+        }
+    }
+
+    private static final class Replica {
+        private final String key;
+        private final DataSource dataSource;
+        private volatile boolean healthy = false;
+        private volatile long lagMs = -1;
+
+        Replica(String key, DataSource dataSource) {
+            this.key = key;
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -51,7 +51,8 @@ public class SecurityConfig {
             "Content-Type",
             "X-Requested-With",
             "Access-Control-Allow-Origin",
-            "Access-Control-Allow-Credentials"
+            "Access-Control-Allow-Credentials",
+            "ETag"   // 조건부 GET (If-None-Match) 용
         ));
         
         configuration.setAllowCredentials(true);
@@ -78,7 +79,7 @@ public class SecurityConfig {
             
             // ✅ 권한 설정
             .authorizeHttpRequests(auth -> auth
-                // 1️⃣ Actuator 엔드포인트 (헬스체크 최우선)
+                // 1️⃣ Actuator 엔드포인트 (헬스체크 최우선, prod 는 공개하지 않는 management 포트에서만 응답)
                 .requestMatchers("/actuator/**").permitAll()
                 
                 // 2️⃣ Swagger 문서
@@ -100,6 +101,9 @@ public class SecurityConfig {
                 // 6️⃣ GET 요청 (글 조회)
                 .requestMatchers(HttpMethod.GET, "/posts/**").permitAll()
                 
+                // 관리자 덤프 (JWT 대신 X-Admin-Token 으로 컨트롤러에서 확인)
+                .requestMatchers(HttpMethod.GET, "/api/admin/export/**").permitAll()
+                
                 // 7️⃣ POST/PUT/DELETE (인증 필요)
                 .requestMatchers(HttpMethod.POST, "/posts/**").authenticated()
                 .requestMatchers(HttpMethod.PUT, "/posts/**").authenticated()
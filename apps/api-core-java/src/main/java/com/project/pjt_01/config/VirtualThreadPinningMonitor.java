@@ -0,0 +1,77 @@
+package com.project.pjt_01.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 pinning 감시 (가상 스레드 모드에서만 동작)
+ * - synchronized 블록 / 네이티브 호출 안에서 블로킹되면 캐리어 스레드가 묶여 처리량이 급락함
+ * - JFR jdk.VirtualThreadPinned 이벤트를 스트리밍으로 받아 경고 로그 + writeflow.virtual.pinned 카운터
+ * - 이 프로젝트 코드는 synchronized 대신 java.util.concurrent 락을 사용
+ * - api-auth-java 에 같은 클래스가 있음 (별도 Gradle 빌드라 공용 모듈 없이 복사, 고칠 때 함께 수정)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final int MAX_FRAMES = 10;
+
+    private final Counter pinned;
+    private final Duration threshold;
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${writeflow.virtual-threads.pinned-threshold-ms:20}") long thresholdMs) {
+        this.pinned = Counter.builder("writeflow.virtual.pinned")
+                .description("Virtual thread pinned events above threshold")
+                .register(meterRegistry);
+        this.threshold = Duration.ofMillis(thresholdMs);
+    }
+
+    @PostConstruct
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable("jdk.VirtualThreadPinned").withThreshold(threshold).withStackTrace();
+        stream.onEvent("jdk.VirtualThreadPinned", event -> {
+            pinned.increment();
+            log.warn("virtual thread pinned for {} ms\n{}",
+                    event.getDuration().toMillis(), format(event.getStackTrace()));
+        });
+        stream.startAsync();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    private String format(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "\t(no stack trace)";
+        }
+        return stackTrace.getFrames().stream()
+                .limit(MAX_FRAMES)
+                .map(this::formatFrame)
+                .collect(Collectors.joining("\n"));
+    }
+
+    private String formatFrame(RecordedFrame frame) {
+        return "\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+}
@@ -3,6 +3,7 @@ package com.project.pjt_01.config;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
@@ -29,4 +30,15 @@ public class WebConfig {
             }
         };
     }
-}
\ No newline at end of file
+
+    // 클릭 / 신고 / 글 작성 요청 빈도 제한 (규칙에 없는 경로는 그냥 통과)
+    @Bean
+    public WebMvcConfigurer rateLimitConfigurer(RateLimitInterceptor rateLimitInterceptor) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(rateLimitInterceptor).addPathPatterns("/api/**");
+            }
+        };
+    }
+}
@@ -0,0 +1,82 @@
+package com.project.pjt_01.controller;
+
+import com.project.pjt_01.service.NdjsonExporter;
+import com.project.pjt_01.service.NdjsonExporter.Table;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.zip.GZIPOutputStream;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/export")
+public class AdminExportController {
+
+    private static final String ADMIN_TOKEN_HEADER = "X-Admin-Token";
+
+    private final NdjsonExporter ndjsonExporter;
+
+    // 비어 있으면 내보내기 비활성화
+    @Value("${writeflow.export.admin-token:}")
+    private String adminToken;
+
+    // 테이블 전체 덤프 (NDJSON, gzip=true 면 .ndjson.gz 파일)
+    // GET /api/admin/export/posts | post-button-stats | button-clicks
+    // - 요청 스레드에서 커서를 읽으면서 바로 응답에 씀 (비동기 요청 타임아웃 없음)
+    @GetMapping("/{table}")
+    public void export(
+            @PathVariable String table,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @RequestHeader(value = ADMIN_TOKEN_HEADER, required = false) String token,
+            HttpServletResponse response
+    ) throws IOException {
+        if (adminToken.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "내보내기가 설정되지 않았습니다.");
+        }
+        if (token == null || !MessageDigest.isEqual(
+                adminToken.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8))) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "관리자 토큰이 올바르지 않습니다.");
+        }
+
+        Table target;
+        try {
+            target = Table.from(table);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+
+        String fileName = target.fileName() + (gzip ? ".ndjson.gz" : ".ndjson");
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(gzip ? "application/gzip" : "application/x-ndjson");
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+
+        OutputStream out = response.getOutputStream();
+        try {
+            if (gzip) {
+                GZIPOutputStream gz = new GZIPOutputStream(out, 64 * 1024);
+                ndjsonExporter.export(target, gz);
+                gz.finish();
+            } else {
+                ndjsonExporter.export(target, out);
+            }
+            out.flush();
+        } catch (UncheckedIOException e) {
+            // 응답을 이미 쓰기 시작해서 상태 코드는 바꿀 수 없음 (클라이언트는 잘린 파일을 받음)
+            log.info("export of {} aborted: {}", target.fileName(), e.getCause().getMessage());
+        }
+    }
+}
@@ -2,12 +2,19 @@ package com.project.pjt_01.controller;
 
 import com.project.pjt_01.dto.post.PostDtos.*;
 import com.project.pjt_01.security.UserPrincipal;
+import com.project.pjt_01.service.FeedCache;
+import com.project.pjt_01.service.FeedCache.FeedPage;
+import com.project.pjt_01.service.PostJsonCache;
 import com.project.pjt_01.service.PostService;
+import com.project.pjt_01.service.ResourceVersions;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.*;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
@@ -15,6 +22,9 @@ import org.springframework.web.bind.annotation.*;
 public class LegacyCodeElevenController {
 
     private final PostService postService;
+    private final FeedCache feedCache;
+    private final ResourceVersions resourceVersions;
+    private final PostJsonCache postJsonCache;
 
     // 글 작성  POST /api/post
     @PostMapping("/post")
@@ -26,14 +36,31 @@ public class LegacyCodeElevenController {
     }
 
     // 글 읽기  GET /api/post?emotion=JOY&page=0&size=20
+    //         GET /api/post?emotion=JOY&cursor=&size=20  (커서 모드)
     @GetMapping("/post")
-    public ResponseEntity<PostListResponse> getPostsLegacy(
+    public ResponseEntity<byte[]> getPostsLegacy(
             @RequestParam(required = false) String emotion,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor,
+            WebRequest request
     ) {
-        Pageable pageable = PageRequest.of(page, size, Sort.Direction.DESC, "createdAt");
-        return ResponseEntity.ok(postService.getPosts(emotion, pageable));
+        // 피드 버전이 그대로면 조회 없이 304
+        // (checkNotModified 는 불일치여도 자기 ETag 를 응답 헤더에 박으므로 일치할 때만 호출,
+        //  나머지 If-None-Match 는 아래 응답 ETag 기준으로 Spring 이 판단)
+        long version = resourceVersions.feedVersion(emotion);
+        String currentETag = resourceVersions.feedETag(emotion, version);
+        if (currentETag.equals(request.getHeader(HttpHeaders.IF_NONE_MATCH)) && request.checkNotModified(currentETag)) {
+            return null;
+        }
+        // 캐시된 페이지면 그 페이지를 만들 때의 버전으로 ETag (옛 본문에 새 ETag 를 붙이지 않음)
+        FeedPage feed = (cursor != null)
+                ? new FeedPage(postService.getPostsByCursor(emotion, cursor, size), version)
+                : feedCache.getPosts(emotion, PageRequest.of(page, size, Sort.Direction.DESC, "createdAt"));
+        return ResponseEntity.ok()
+                .eTag(resourceVersions.feedETag(emotion, feed.version()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(postJsonCache.feed(feed.response()));
     }
 
     // 글 삭제  DELETE /api/post?postId=1
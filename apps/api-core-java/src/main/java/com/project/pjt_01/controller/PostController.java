@@ -2,13 +2,25 @@ package com.project.pjt_01.controller;
 
 import com.project.pjt_01.dto.post.PostDtos.*;
 import com.project.pjt_01.security.UserPrincipal;
+import com.project.pjt_01.service.ClickStreamHub;
+import com.project.pjt_01.service.FeedCache;
+import com.project.pjt_01.service.FeedCache.FeedPage;
+import com.project.pjt_01.service.PostJsonCache;
 import com.project.pjt_01.service.PostService;
+import com.project.pjt_01.service.ResourceVersions;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.*;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -17,6 +29,13 @@ import java.util.List;
 public class PostController {
 
     private final PostService postService;
+    private final FeedCache feedCache;
+    private final ClickStreamHub clickStreamHub;
+    private final ResourceVersions resourceVersions;
+    private final PostJsonCache postJsonCache;
+
+    @Value("${writeflow.json-cache.gzip:false}")
+    private boolean gzipJson;
 
     // 글 작성
     @PostMapping
@@ -28,21 +47,87 @@ public class PostController {
         return ResponseEntity.ok(resp);
     }
 
-    // 글 단건 조회
+    // 글 단건 조회 (If-None-Match 가 현재 버전과 같으면 조회 없이 304)
+    // - 본문은 직렬화 캐시의 바이트를 그대로 씀 (gzip 허용 클라이언트면 gzip 본)
     @GetMapping("/{id}")
-    public ResponseEntity<PostResponse> getPost(@PathVariable Long id) {
-        return ResponseEntity.ok(postService.getPost(id));
+    public ResponseEntity<byte[]> getPost(@PathVariable Long id, WebRequest request) {
+        String etag = resourceVersions.postETag(id);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (gzipJson && acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            return ResponseEntity.ok()
+                    .eTag(etag)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .body(postJsonCache.postGzip(id, () -> postService.getPost(id)));
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(postJsonCache.post(id, () -> postService.getPost(id)));
     }
 
     // 감정별 글 목록 조회 (숨김 제외, 최신순)
+    // - cursor 파라미터가 있으면 커서 모드 (빈 값 = 첫 페이지), 없으면 기존 page 모드
     @GetMapping
-    public ResponseEntity<PostListResponse> getPosts(
+    public ResponseEntity<byte[]> getPosts(
+            @RequestParam(required = false) String emotion,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor,
+            WebRequest request
+    ) {
+        // 피드 버전이 그대로면 조회 없이 304
+        // (checkNotModified 는 불일치여도 자기 ETag 를 응답 헤더에 박으므로 일치할 때만 호출,
+        //  나머지 If-None-Match 는 아래 응답 ETag 기준으로 Spring 이 판단)
+        long version = resourceVersions.feedVersion(emotion);
+        String currentETag = resourceVersions.feedETag(emotion, version);
+        if (currentETag.equals(request.getHeader(HttpHeaders.IF_NONE_MATCH)) && request.checkNotModified(currentETag)) {
+            return null;
+        }
+        // 캐시된 페이지면 그 페이지를 만들 때의 버전으로 ETag (옛 본문에 새 ETag 를 붙이지 않음)
+        FeedPage feed = (cursor != null)
+                ? new FeedPage(postService.getPostsByCursor(emotion, cursor, size), version)
+                : feedCache.getPosts(emotion, PageRequest.of(page, size, Sort.Direction.DESC, "createdAt"));
+        // 글별 직렬화 캐시 조각을 이어 붙여서 응답
+        return ResponseEntity.ok()
+                .eTag(resourceVersions.feedETag(emotion, feed.version()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(postJsonCache.feed(feed.response()));
+    }
+
+    // 버튼 클릭 수 실시간 스트림 (SSE: snapshot 1회 후 바뀐 버튼만 delta)
+    // - X-Accel-Buffering: no → 게이트웨이(nginx)가 이벤트를 버퍼에 모으지 않고 바로 전달
+    @GetMapping(value = "/{id}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamButtonStats(@PathVariable Long id) {
+        return ResponseEntity.ok()
+                .header("X-Accel-Buffering", "no")
+                .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+                .body(clickStreamHub.subscribe(id));
+    }
+
+    // 본문 검색 (bigram 색인, 점수순)
+    @GetMapping("/search")
+    public ResponseEntity<PostListResponse> searchPosts(
+            @RequestParam("q") String query,
             @RequestParam(required = false) String emotion,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size
     ) {
-        Pageable pageable = PageRequest.of(page, size, Sort.Direction.DESC, "createdAt");
-        return ResponseEntity.ok(postService.getPosts(emotion, pageable));
+        return ResponseEntity.ok(postService.searchPosts(query, emotion, page, size));
+    }
+
+    // 트렌딩 글 (최근 클릭이 많은 순, 한 페이지)
+    @GetMapping("/trending")
+    public ResponseEntity<PostListResponse> getTrendingPosts(
+            @RequestParam(required = false) String emotion,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(postService.getTrendingPosts(emotion, size));
     }
 
     // 내 글 목록
@@ -104,4 +189,16 @@ public class PostController {
     public ResponseEntity<List<EmotionStatResponse>> getEmotionStats() {
         return ResponseEntity.ok(postService.getEmotionStats());
     }
+
+    // 기간별 감정 / 클릭 통계 (대시보드용)
+    // GET /api/posts/stats/history?from=2026-01-01&to=2026-03-31&granularity=day&emotion=JOY
+    @GetMapping("/stats/history")
+    public ResponseEntity<List<StatBucketResponse>> getStatHistory(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "day") String granularity,
+            @RequestParam(required = false) String emotion
+    ) {
+        return ResponseEntity.ok(postService.getStatHistory(from, to, granularity, emotion));
+    }
 }
@@ -0,0 +1,47 @@
+package com.project.pjt_01.domain;
+//감정 / 버튼 종류별 클릭 수 롤업 (StatRollups 가 JDBC upsert 로 갱신, 엔티티는 스키마 정의용)
+import com.project.pjt_01.domain.id.TimeOrderedId;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "click_rollups",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_click_rollup",
+                columnNames = {"granularity", "bucket_start", "emotion", "button_type"}
+        ))
+public class ClickRollup {
+
+    @Id @TimeOrderedId   // 시간순 앱 발급 ID (JDBC 배치 insert 가능)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private RollupGranularity granularity;
+
+    // 버킷 시작 시각 (writeflow.rollup.zone 기준 로컬 시각)
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    // 클릭된 글의 감정
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Emotion emotion;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "button_type", nullable = false, length = 20)
+    private ButtonType buttonType;
+
+    @Column(name = "click_count", nullable = false)
+    private long clickCount;
+
+    protected ClickRollup() {}
+
+    public Long getId() { return id; }
+    public RollupGranularity getGranularity() { return granularity; }
+    public LocalDateTime getBucketStart() { return bucketStart; }
+    public Emotion getEmotion() { return emotion; }
+    public ButtonType getButtonType() { return buttonType; }
+    public long getClickCount() { return clickCount; }
+}
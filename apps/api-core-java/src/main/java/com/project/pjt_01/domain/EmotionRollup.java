@@ -0,0 +1,41 @@
+package com.project.pjt_01.domain;
+//감정별 작성 글 수 롤업 (StatRollups 가 JDBC upsert 로 갱신, 엔티티는 스키마 정의용)
+import com.project.pjt_01.domain.id.TimeOrderedId;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "emotion_rollups",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_emotion_rollup",
+                columnNames = {"granularity", "bucket_start", "emotion"}
+        ))
+public class EmotionRollup {
+
+    @Id @TimeOrderedId   // 시간순 앱 발급 ID (JDBC 배치 insert 가능)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private RollupGranularity granularity;
+
+    // 버킷 시작 시각 (writeflow.rollup.zone 기준 로컬 시각)
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Emotion emotion;
+
+    @Column(name = "post_count", nullable = false)
+    private long postCount;
+
+    protected EmotionRollup() {}
+
+    public Long getId() { return id; }
+    public RollupGranularity getGranularity() { return granularity; }
+    public LocalDateTime getBucketStart() { return bucketStart; }
+    public Emotion getEmotion() { return emotion; }
+    public long getPostCount() { return postCount; }
+}
@@ -1,14 +1,22 @@
 package com.project.pjt_01.domain;
 
+import com.project.pjt_01.domain.id.TimeOrderedId;
 import jakarta.persistence.*;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "posts")
+@Table(
+        name = "posts",
+        indexes = {
+                // 피드 키셋 페이지네이션용 (hidden = false, createdAt DESC, id DESC)
+                @Index(name = "idx_posts_feed", columnList = "hidden, created_at, id"),
+                @Index(name = "idx_posts_emotion_feed", columnList = "emotion, hidden, created_at, id")
+        }
+)
 public class Post extends BaseTimeEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @TimeOrderedId   // 시간순 앱 발급 ID (JDBC 배치 insert 가능)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -23,7 +31,10 @@ public class Post extends BaseTimeEntity {
     private Emotion emotion;
 
     @Column(name = "llm_reply", columnDefinition = "TEXT")
-    private String llmReply;   // LLM 응답 (나중에 연동)
+    private String llmReply;   // LLM 응답 (LlmReplyPipeline 이 비동기로 채움)
+
+    @Column(name = "llm_failures", nullable = false, columnDefinition = "integer default 0")
+    private int llmFailures = 0;   // 모든 재시도가 실패한 횟수 (max-failures 이상이면 더 시도하지 않음)
 
     @Column(nullable = false)
     private boolean hidden = false;
@@ -66,7 +77,12 @@ public class Post extends BaseTimeEntity {
         this.reportedCount++;
     }
 
-    public void hide() {
+    // 이미 숨김 상태였으면 false (숨김 이벤트 중복 발행 방지용)
+    public boolean hide() {
+        if (hidden) {
+            return false;
+        }
         this.hidden = true;
+        return true;
     }
 }
@@ -1,5 +1,6 @@
 package com.project.pjt_01.domain;
 
+import com.project.pjt_01.domain.id.TimeOrderedId;
 import jakarta.persistence.*;
 
 @Entity
@@ -10,7 +11,7 @@ import jakarta.persistence.*;
         ))
 public class PostReport {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @TimeOrderedId   // 시간순 앱 발급 ID (JDBC 배치 insert 가능)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
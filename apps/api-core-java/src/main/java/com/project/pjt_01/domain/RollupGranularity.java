@@ -0,0 +1,7 @@
+package com.project.pjt_01.domain;
+
+// 통계 롤업 버킷 단위 (시간별 버킷은 compaction 으로 일별에 합쳐짐)
+public enum RollupGranularity {
+    HOUR,
+    DAY
+}
@@ -0,0 +1,23 @@
+package com.project.pjt_01.domain.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import java.lang.reflect.Member;
+
+/**
+ * @TimeOrderedId 용 Hibernate ID 생성기
+ */
+public class TimeOrderedIdGenerator implements IdentifierGenerator {
+
+    public TimeOrderedIdGenerator(TimeOrderedId config,
+                                  Member annotatedMember,
+                                  CustomIdGeneratorCreationContext context) {
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return TimeOrderedIds.next();
+    }
+}
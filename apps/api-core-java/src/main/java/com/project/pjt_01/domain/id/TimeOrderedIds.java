@@ -0,0 +1,85 @@
+package com.project.pjt_01.domain.id;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 애플리케이션에서 발급하는 시간순 ID
+ *
+ * [41bit: 2024-01-01 이후 ms][4bit: 노드][8bit: 같은 ms 내 순번] = 53bit
+ * - 53bit 이내라 JS Number 로도 정밀도 손실 없음 (2093년까지)
+ * - 발급 순서 = 생성 시각 순서 → PK 정렬이 곧 최신순 정렬
+ * - DB 왕복 없이 ID 가 정해지므로 Hibernate JDBC 배치 insert 가능 (IDENTITY 는 배치 불가)
+ * - 같은 ms 에 256개를 넘기면 다음 ms 를 미리 당겨 씀 (락 없이 CAS)
+ *
+ * 노드 번호: 환경변수 WRITEFLOW_NODE_ID 또는 -Dwriteflow.node-id (0~14, 15 는 시드 데이터 전용)
+ * - 인스턴스마다 달라야 함 (같은 노드 번호의 두 인스턴스는 같은 ms 에 같은 ID 를 발급)
+ * - 설정이 없으면 0 으로 동작하지만 dev 프로필이 아니면 기동 실패 (NodeIdCheck)
+ */
+public final class TimeOrderedIds {
+
+    // 2024-01-01T00:00:00Z
+    public static final long EPOCH_MILLIS = 1704067200000L;
+
+    public static final int NODE_BITS = 4;
+    public static final int SEQUENCE_BITS = 8;
+    public static final long MAX_NODE = (1L << NODE_BITS) - 1;
+    public static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+    // 대량 시드 데이터 전용 노드 번호 (인스턴스에는 할당 불가)
+    public static final long SEED_NODE = MAX_NODE;
+
+    private static final String NODE_VALUE = System.getProperty("writeflow.node-id", System.getenv("WRITEFLOW_NODE_ID"));
+    private static final long NODE = resolveNode();
+
+    // (경과 ms << SEQUENCE_BITS) | 순번 을 한 번에 CAS
+    private static final AtomicLong STATE = new AtomicLong();
+
+    private TimeOrderedIds() {}
+
+    public static long next() {
+        while (true) {
+            long prev = STATE.get();
+            long elapsed = System.currentTimeMillis() - EPOCH_MILLIS;
+            long next = (elapsed > (prev >>> SEQUENCE_BITS))
+                    ? elapsed << SEQUENCE_BITS
+                    : prev + 1;   // 같은 ms 이거나 시계가 뒤로 간 경우: 순번 증가 (넘치면 다음 ms)
+
+            if (STATE.compareAndSet(prev, next)) {
+                return compose(next >>> SEQUENCE_BITS, NODE, next & MAX_SEQUENCE);
+            }
+        }
+    }
+
+    // 주어진 시각 / 노드 / 순번으로 ID 조립 (대량 시드 데이터 등 결정적 ID 가 필요할 때)
+    public static long of(long epochMillis, long node, long sequence) {
+        if (node < 0 || node > MAX_NODE || sequence < 0 || sequence > MAX_SEQUENCE) {
+            throw new IllegalArgumentException("node/sequence 범위를 벗어났습니다.");
+        }
+        return compose(epochMillis - EPOCH_MILLIS, node, sequence);
+    }
+
+    // ID 에 담긴 발급 시각 (epoch ms)
+    public static long timestampOf(long id) {
+        return (id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS;
+    }
+
+    private static long compose(long elapsedMillis, long node, long sequence) {
+        return (elapsedMillis << (NODE_BITS + SEQUENCE_BITS)) | (node << SEQUENCE_BITS) | sequence;
+    }
+
+    // WRITEFLOW_NODE_ID / -Dwriteflow.node-id 가 설정됐는지 (없으면 노드 0)
+    public static boolean isNodeConfigured() {
+        return NODE_VALUE != null && !NODE_VALUE.isBlank();
+    }
+
+    private static long resolveNode() {
+        if (!isNodeConfigured()) {
+            return 0L;
+        }
+        long node = Long.parseLong(NODE_VALUE.trim());
+        if (node < 0 || node >= SEED_NODE) {
+            throw new IllegalStateException("WRITEFLOW_NODE_ID 는 0~" + (SEED_NODE - 1)
+                    + " 이어야 합니다 (" + SEED_NODE + " 는 시드 데이터 전용): " + node);
+        }
+        return node;
+    }
+}
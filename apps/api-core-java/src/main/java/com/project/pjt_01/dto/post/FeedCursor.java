@@ -0,0 +1,48 @@
+package com.project.pjt_01.dto.post;
+
+import com.project.pjt_01.domain.Post;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 무한스크롤용 키셋 커서 (createdAt, id)
+ * - 클라이언트에는 Base64 문자열로만 노출 (내부 구조는 바꿀 수 있도록 불투명하게 유지)
+ * - "이 커서보다 오래된 글"을 가져오는 기준점
+ */
+public record FeedCursor(LocalDateTime createdAt, Long id) {
+
+    private static final char SEPARATOR = '|';
+
+    public static FeedCursor of(Post post) {
+        return new FeedCursor(post.getCreatedAt(), post.getId());
+    }
+
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 빈 문자열은 "첫 페이지"로 취급하므로 null 반환
+    public static FeedCursor decode(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value.trim()), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(SEPARATOR);
+            if (idx < 0) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return new FeedCursor(
+                    LocalDateTime.parse(raw.substring(0, idx)),
+                    Long.parseLong(raw.substring(idx + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
@@ -7,6 +7,7 @@ import com.project.pjt_01.domain.PostButtonStat;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 public class PostDtos {
 
@@ -24,6 +25,11 @@ public class PostDtos {
             int clickCount
     ) {
         public static ButtonStatDto from(PostButtonStat stat) {
+            return from(stat, 0);
+        }
+
+        // pendingClicks: 아직 DB에 반영되지 않은 클릭 수 (write-behind 모드)
+        public static ButtonStatDto from(PostButtonStat stat, int pendingClicks) {
             ButtonType t = stat.getButtonType();
 
             // 🆕 글에서 저장해둔 사용자 정의 이름 우선 사용
@@ -36,7 +42,7 @@ public class PostDtos {
             return new ButtonStatDto(
                     t.name(),       // 내부 코드 (EMPATHY, COMFORT, ...)
                     label,          // 사용자에게 보여줄 이름
-                    stat.getClickCount()
+                    stat.getClickCount() + pendingClicks
             );
         }
     }
@@ -55,6 +61,10 @@ public class PostDtos {
             List<ButtonStatDto> buttons
     ) {
         public static PostResponse from(Post post, List<PostButtonStat> stats) {
+            return of(post, stats.stream().map(ButtonStatDto::from).toList());
+        }
+
+        public static PostResponse of(Post post, List<ButtonStatDto> buttons) {
             Emotion e = post.getEmotion();
             return new PostResponse(
                     post.getId(),
@@ -66,18 +76,21 @@ public class PostDtos {
                     post.isHidden(),
                     post.getReportedCount(),
                     post.getCreatedAt(),
-                    stats.stream().map(ButtonStatDto::from).toList()
+                    buttons
             );
         }
     }
 
     // 리스트 응답 (페이지네이션)
+    // - 커서 모드에서는 count 쿼리를 생략하므로 totalElements / totalPages = -1
+    // - nextCursor: 다음 페이지 요청용 커서 (더 없으면 null)
     public record PostListResponse(
             List<PostResponse> items,
             int page,
             int size,
             long totalElements,
-            int totalPages
+            int totalPages,
+            String nextCursor
     ) {}
 
     // 버튼 클릭 응답
@@ -94,5 +107,12 @@ public class PostDtos {
             long count,            // 해당 감정 글 수
             double ratio           // 전체 대비 비율 (0.0 ~ 1.0)
     ) {}
+
+    // 기간별 통계 버킷 (롤업 테이블 기준)
+    public record StatBucketResponse(
+            LocalDateTime bucketStart,   // 버킷 시작 시각 (일별이면 00:00)
+            Map<String, Long> posts,     // 감정 코드 → 작성 글 수
+            Map<String, Long> clicks     // 버튼 코드 → 클릭 수
+    ) {}
 }
 
@@ -0,0 +1,47 @@
+package com.project.pjt_01.event;
+
+import com.project.pjt_01.domain.ButtonType;
+import com.project.pjt_01.domain.Emotion;
+
+import java.time.LocalDateTime;
+
+/**
+ * 글 관련 도메인 이벤트
+ * - PostService가 트랜잭션 안에서 발행하고,
+ *   통계/캐시 등 메모리 구조는 @TransactionalEventListener(AFTER_COMMIT)로 받아서 갱신
+ */
+public class PostEvents {
+
+    // 글 작성 (content 는 검색 색인용)
+    public record PostCreated(
+            Long postId,
+            Emotion emotion,
+            String content,
+            LocalDateTime createdAt
+    ) {}
+
+    // 글 숨김 (작성자 삭제 / 신고 누적) - 보이던 글이 숨김으로 바뀔 때만 발행
+    public record PostHidden(
+            Long postId,
+            Emotion emotion
+    ) {}
+
+    // 버튼 클릭 (중복 클릭은 발행 안 함)
+    public record ButtonClicked(
+            Long postId,
+            Emotion emotion,
+            ButtonType buttonType
+    ) {}
+
+    // 신고 접수
+    public record PostReported(
+            Long postId,
+            Emotion emotion
+    ) {}
+
+    // LLM 답글 반영 (LlmReplyPipeline, 트랜잭션 밖에서 발행 → @EventListener 로 받음)
+    public record LlmReplied(
+            Long postId,
+            Emotion emotion
+    ) {}
+}
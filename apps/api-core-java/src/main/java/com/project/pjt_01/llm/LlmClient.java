@@ -0,0 +1,22 @@
+package com.project.pjt_01.llm;
+
+import com.project.pjt_01.domain.Emotion;
+
+import java.util.List;
+
+/**
+ * LLM 답글 생성 클라이언트 (구현체 교체 가능)
+ * - 여러 글을 한 번에 요청해서 호출 횟수를 줄임
+ * - 반환 목록은 prompts 와 같은 순서 / 같은 길이
+ * - 실패하면 예외를 던지면 됨 (재시도는 LlmReplyPipeline 이 담당)
+ */
+public interface LlmClient {
+
+    List<String> generateReplies(List<Prompt> prompts);
+
+    record Prompt(
+            Long postId,
+            Emotion emotion,
+            String content
+    ) {}
+}
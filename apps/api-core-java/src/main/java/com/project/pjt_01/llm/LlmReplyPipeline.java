@@ -0,0 +1,316 @@
+package com.project.pjt_01.llm;
+
+import com.project.pjt_01.domain.Emotion;
+import com.project.pjt_01.event.PostEvents.LlmReplied;
+import com.project.pjt_01.event.PostEvents.PostCreated;
+import com.project.pjt_01.llm.LlmClient.Prompt;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비동기 LLM 답글 파이프라인 (posts.llm_reply 채우기)
+ * - 글 작성 커밋 후 postId 를 크기 제한 큐에 넣기만 함 → 작성 API 지연은 모델 지연과 무관
+ * - 큐가 가득 차면 버리고(dropped) 주기적 backfill 이 llm_reply IS NULL 인 글을 다시 채워 넣음
+ * - 워커가 batch-size 만큼 모아서 LlmClient 한 번 호출, 실패 시 지수 백오프 + 지터로 재시도
+ *   끝내 실패한 묶음은 한 글씩 한 번 더 호출 (한 글 때문에 이웃 글까지 실패하지 않도록)
+ *   그래도 실패한 글은 llm_failures 증가 → max-failures 에 닿으면 backfill / 처리 대상에서 제외
+ * - 결과는 UPDATE 배치 한 번으로 반영 (이미 채워진 글은 덮어쓰지 않음)
+ *
+ * 메트릭: writeflow.llm.queue.size / enqueued / dropped / replies / retries / failures / writeflow.llm.call
+ */
+@Slf4j
+@Component
+public class LlmReplyPipeline {
+
+    private static final String LOAD_SQL =
+            "SELECT id, emotion, content FROM posts "
+                    + "WHERE llm_reply IS NULL AND hidden = false AND llm_failures < ? AND id IN (%s)";
+    private static final String BACKLOG_SQL =
+            "SELECT id FROM posts WHERE llm_reply IS NULL AND hidden = false AND llm_failures < ? "
+                    + "ORDER BY id DESC LIMIT ?";
+    private static final String WRITE_SQL =
+            "UPDATE posts SET llm_reply = ? WHERE id = ? AND llm_reply IS NULL";
+    private static final String FAIL_SQL =
+            "UPDATE posts SET llm_failures = llm_failures + 1 WHERE id = ? AND llm_reply IS NULL";
+
+    private static final long MAX_BACKOFF_MS = 30_000L;
+
+    private final LlmClient llmClient;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final boolean enabled;
+    private final int workers;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final int maxFailures;
+    private final long backoffMs;
+
+    private final BlockingQueue<Long> queue;
+    // 큐에 있거나 처리 중인 ID (backfill 중복 방지)
+    private final Set<Long> pendingIds = ConcurrentHashMap.newKeySet();
+
+    private final Counter enqueued;
+    private final Counter dropped;
+    private final Counter replies;
+    private final Counter retries;
+    private final Counter failures;
+    private final Timer callTimer;
+
+    private ExecutorService executor;
+    private volatile boolean running = false;
+
+    public LlmReplyPipeline(LlmClient llmClient,
+                            JdbcTemplate jdbcTemplate,
+                            TransactionTemplate transactionTemplate,
+                            ApplicationEventPublisher eventPublisher,
+                            MeterRegistry meterRegistry,
+                            @Value("${writeflow.llm.enabled:false}") boolean enabled,
+                            @Value("${writeflow.llm.queue-capacity:1000}") int queueCapacity,
+                            @Value("${writeflow.llm.workers:2}") int workers,
+                            @Value("${writeflow.llm.batch-size:8}") int batchSize,
+                            @Value("${writeflow.llm.max-attempts:4}") int maxAttempts,
+                            @Value("${writeflow.llm.max-failures:3}") int maxFailures,
+                            @Value("${writeflow.llm.backoff-ms:500}") long backoffMs) {
+        this.llmClient = llmClient;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.maxFailures = maxFailures;
+        this.backoffMs = backoffMs;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        Gauge.builder("writeflow.llm.queue.size", queue, BlockingQueue::size)
+                .description("Posts waiting for an LLM reply")
+                .register(meterRegistry);
+        this.enqueued = Counter.builder("writeflow.llm.enqueued").register(meterRegistry);
+        this.dropped = Counter.builder("writeflow.llm.dropped")
+                .description("Posts not queued because the queue was full (picked up later by backfill)")
+                .register(meterRegistry);
+        this.replies = Counter.builder("writeflow.llm.replies").register(meterRegistry);
+        this.retries = Counter.builder("writeflow.llm.retries").register(meterRegistry);
+        this.failures = Counter.builder("writeflow.llm.failures")
+                .description("Posts whose reply failed after all attempts (counted once per backfill round, up to max-failures)")
+                .register(meterRegistry);
+        this.callTimer = Timer.builder("writeflow.llm.call")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener
+    public void onPostCreated(PostCreated event) {
+        if (enabled) {
+            enqueue(event.postId());
+        }
+    }
+
+    private void enqueue(Long postId) {
+        if (!pendingIds.add(postId)) {
+            return;   // 이미 대기 / 처리 중
+        }
+        if (queue.offer(postId)) {
+            enqueued.increment();
+        } else {
+            pendingIds.remove(postId);
+            dropped.increment();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        AtomicInteger seq = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(workers, r -> {
+            Thread t = new Thread(r, "llm-worker-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        running = true;
+        for (int i = 0; i < workers; i++) {
+            executor.execute(this::workLoop);
+        }
+        backfill();
+    }
+
+    // 큐가 넘쳐서 버려졌거나 재기동 전에 처리 못 한 글 다시 채우기
+    @Scheduled(
+            fixedDelayString = "${writeflow.llm.backfill-interval-ms:60000}",
+            initialDelayString = "${writeflow.llm.backfill-interval-ms:60000}"
+    )
+    public void backfill() {
+        if (!running) {
+            return;
+        }
+        int room = queue.remainingCapacity();
+        if (room == 0) {
+            return;
+        }
+        jdbcTemplate.queryForList(BACKLOG_SQL, Long.class, maxFailures, room).forEach(this::enqueue);
+    }
+
+    private void workLoop() {
+        while (running) {
+            List<Long> batch = new ArrayList<>(batchSize);
+            try {
+                Long first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                process(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("llm reply batch failed ({} posts): {}", batch.size(), e.getMessage());
+            } finally {
+                batch.forEach(pendingIds::remove);
+            }
+        }
+    }
+
+    private void process(List<Long> postIds) throws InterruptedException {
+        List<Prompt> prompts = load(postIds);
+        if (prompts.isEmpty()) {
+            return;
+        }
+
+        List<String> generated = callWithRetry(prompts, maxAttempts);
+        if (generated != null) {
+            write(prompts, generated);
+            return;
+        }
+        if (prompts.size() == 1) {
+            markFailed(prompts);
+            return;
+        }
+
+        // 묶음 재시도는 이미 끝났으므로 글마다 한 번씩만
+        List<Prompt> succeeded = new ArrayList<>();
+        List<String> succeededReplies = new ArrayList<>();
+        List<Prompt> failed = new ArrayList<>();
+        for (Prompt prompt : prompts) {
+            List<String> single = callWithRetry(List.of(prompt), 1);
+            if (single != null) {
+                succeeded.add(prompt);
+                succeededReplies.add(single.get(0));
+            } else {
+                failed.add(prompt);
+            }
+        }
+        write(succeeded, succeededReplies);
+        markFailed(failed);
+    }
+
+    private void write(List<Prompt> prompts, List<String> generated) {
+        if (prompts.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(prompts.size());
+        for (int i = 0; i < prompts.size(); i++) {
+            args.add(new Object[]{generated.get(i), prompts.get(i).postId()});
+        }
+        int[] updated = transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(WRITE_SQL, args));
+        // 그 사이 다른 워커 / 인스턴스가 채운 글은 갱신 0건 → 집계 / 이벤트(ETag 변경) 없음
+        for (int i = 0; i < prompts.size(); i++) {
+            if (updated != null && updated[i] == 1) {
+                Prompt p = prompts.get(i);
+                replies.increment();
+                eventPublisher.publishEvent(new LlmReplied(p.postId(), p.emotion()));
+            }
+        }
+    }
+
+    // 실패 횟수 기록 (max-failures 에 닿은 글은 다시 큐에 들어오지 않음)
+    private void markFailed(List<Prompt> prompts) {
+        if (prompts.isEmpty()) {
+            return;
+        }
+        failures.increment(prompts.size());
+        List<Object[]> args = prompts.stream().map(p -> new Object[]{p.postId()}).toList();
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FAIL_SQL, args));
+    }
+
+    // 숨김 / 이미 채워진 / 실패 한도에 닿은 글은 제외
+    private List<Prompt> load(List<Long> postIds) {
+        String sql = String.format(LOAD_SQL, String.join(",", Collections.nCopies(postIds.size(), "?")));
+        Object[] args = new Object[postIds.size() + 1];
+        args[0] = maxFailures;
+        for (int i = 0; i < postIds.size(); i++) {
+            args[i + 1] = postIds.get(i);
+        }
+        return jdbcTemplate.query(sql,
+                (rs, rowNum) -> new Prompt(
+                        rs.getLong("id"),
+                        Emotion.valueOf(rs.getString("emotion")),
+                        rs.getString("content")),
+                args);
+    }
+
+    // 모든 시도가 실패하면 null
+    private List<String> callWithRetry(List<Prompt> prompts, int attempts) throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                List<String> result = callTimer.record(() -> llmClient.generateReplies(prompts));
+                if (result == null || result.size() != prompts.size()) {
+                    throw new IllegalStateException("LLM 응답 개수가 요청과 다릅니다.");
+                }
+                return result;
+            } catch (RuntimeException e) {
+                if (attempt >= attempts) {
+                    log.warn("llm call for {} posts gave up after {} attempts: {}", prompts.size(), attempt, e.getMessage());
+                    return null;
+                }
+                retries.increment();
+                long delay = Math.min(MAX_BACKOFF_MS, backoffMs << (attempt - 1));
+                // 여러 워커가 동시에 재시도하지 않도록 지터
+                Thread.sleep(delay + ThreadLocalRandom.current().nextLong(delay / 2 + 1));
+            }
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (executor != null) {
+            executor.shutdown();
+            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.project.pjt_01.llm;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 로컬 / 테스트용 LLM 클라이언트 (외부 호출 없음)
+ * - 감정별 고정 문구를 돌려줌
+ * - stub-latency-ms 로 모델 지연을 흉내낼 수 있음 (작성 API 지연과 무관한지 확인용)
+ */
+@Component
+@ConditionalOnProperty(name = "writeflow.llm.client", havingValue = "stub", matchIfMissing = true)
+public class StubLlmClient implements LlmClient {
+
+    private final long latencyMs;
+
+    public StubLlmClient(@Value("${writeflow.llm.stub-latency-ms:0}") long latencyMs) {
+        this.latencyMs = latencyMs;
+    }
+
+    @Override
+    public List<String> generateReplies(List<Prompt> prompts) {
+        if (latencyMs > 0) {
+            try {
+                Thread.sleep(latencyMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("LLM 호출이 중단되었습니다.", e);
+            }
+        }
+
+        return prompts.stream()
+                .map(p -> switch (p.emotion()) {
+                    case JOY -> "그 기쁨이 오래 머물길 바라요 ✨";
+                    case SADNESS -> "오늘은 충분히 슬퍼해도 괜찮아요 🤍";
+                    case ANGER -> "화가 날 만한 일이었어요. 잠깐 숨 고르기 해요 🌿";
+                    case PLEASURE -> "즐거운 순간을 나눠줘서 고마워요 🎵";
+                    case LOVE -> "그 마음이 잘 전해지길 바라요 💗";
+                    case HATE -> "미운 마음도 자연스러운 감정이에요 🌑";
+                    case AMBITION -> "그 꿈을 응원할게요 🔥";
+                })
+                .toList();
+    }
+}
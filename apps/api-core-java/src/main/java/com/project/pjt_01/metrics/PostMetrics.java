@@ -0,0 +1,55 @@
+package com.project.pjt_01.metrics;
+
+import com.project.pjt_01.event.PostEvents.ButtonClicked;
+import com.project.pjt_01.event.PostEvents.PostCreated;
+import com.project.pjt_01.event.PostEvents.PostHidden;
+import com.project.pjt_01.event.PostEvents.PostReported;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 글 도메인 이벤트 카운터 (커밋된 것만 셈)
+ * - writeflow.posts.created{emotion}
+ * - writeflow.posts.clicks{button}
+ * - writeflow.posts.reports
+ * - writeflow.posts.hidden
+ */
+@Component
+public class PostMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Counter reports;
+    private final Counter hidden;
+
+    public PostMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.reports = Counter.builder("writeflow.posts.reports")
+                .description("Committed post reports")
+                .register(meterRegistry);
+        this.hidden = Counter.builder("writeflow.posts.hidden")
+                .description("Posts hidden by author delete or report threshold")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener
+    public void onPostCreated(PostCreated event) {
+        meterRegistry.counter("writeflow.posts.created", "emotion", event.emotion().name()).increment();
+    }
+
+    @TransactionalEventListener
+    public void onButtonClicked(ButtonClicked event) {
+        meterRegistry.counter("writeflow.posts.clicks", "button", event.buttonType().name()).increment();
+    }
+
+    @TransactionalEventListener
+    public void onPostReported(PostReported event) {
+        reports.increment();
+    }
+
+    @TransactionalEventListener
+    public void onPostHidden(PostHidden event) {
+        hidden.increment();
+    }
+}
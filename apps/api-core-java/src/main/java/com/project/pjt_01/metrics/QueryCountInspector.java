@@ -0,0 +1,32 @@
+package com.project.pjt_01.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 준비하는 SQL 수를 요청(스레드) 단위로 센다
+ * - hibernate.session_factory.statement_inspector 로 등록 (Hibernate 가 직접 생성)
+ * - QueryCountInterceptor 가 요청 시작 시 초기화, 끝날 때 기록
+ * - JdbcTemplate 로 직접 실행하는 SQL 은 포함되지 않음
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+
+    public static void reset() {
+        COUNT.get()[0] = 0;
+    }
+
+    public static int current() {
+        return COUNT.get()[0];
+    }
+
+    public static void clear() {
+        COUNT.remove();
+    }
+}
@@ -0,0 +1,46 @@
+package com.project.pjt_01.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 요청당 Hibernate 쿼리 수 분포 (writeflow.http.queries{method, uri})
+ * - N+1 회귀가 생기면 해당 uri 의 p95/max 가 바로 튄다
+ */
+@Component
+public class QueryCountInterceptor implements HandlerInterceptor {
+
+    private final MeterRegistry meterRegistry;
+
+    public QueryCountInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        QueryCountInspector.reset();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = (pattern != null) ? pattern.toString() : "UNKNOWN";
+
+        DistributionSummary.builder("writeflow.http.queries")
+                .description("Hibernate SQL statements per request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry)
+                .record(QueryCountInspector.current());
+
+        QueryCountInspector.clear();
+    }
+}
@@ -0,0 +1,112 @@
+package com.project.pjt_01.repository;
+
+import com.project.pjt_01.domain.ButtonType;
+import com.project.pjt_01.domain.Emotion;
+import com.project.pjt_01.domain.id.TimeOrderedIds;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 버튼 클릭 원자적 처리 (JPA 우회)
+ * - button_clicks 의 uk_click_post_user 제약으로 중복 클릭을 판정 (사전 exists 조회 없음)
+ * - PostgreSQL: 검증 + insert-if-absent + 조건부 카운터 증가를 CTE 한 문장으로 처리
+ * - 그 외(H2 등): 검증 조회 → INSERT(제약 위반 = 중복) → UPDATE
+ */
+@Repository
+public class ButtonClickJdbcRepository {
+
+    public enum ClickStatus {
+        CLICKED,    // 클릭 저장 + 카운터 증가 완료
+        DUPLICATE,  // 이미 클릭한 글 (제약 위반)
+        REJECTED    // 글 없음 / 숨김 / 비활성 버튼
+    }
+
+    public record ClickResult(ClickStatus status, Emotion emotion) {}
+
+    private static final String POSTGRES_CLICK_SQL = """
+            WITH target AS (
+                SELECT p.id, p.emotion
+                FROM posts p
+                JOIN post_button_stats s ON s.post_id = p.id AND s.button_type = ?
+                WHERE p.id = ? AND p.hidden = false
+            ), ins AS (
+                INSERT INTO button_clicks (id, post_id, user_id, button_type)
+                SELECT ?, id, ?, ? FROM target
+                ON CONFLICT ON CONSTRAINT uk_click_post_user DO NOTHING
+                RETURNING post_id
+            ), upd AS (
+                UPDATE post_button_stats
+                SET click_count = click_count + 1
+                WHERE post_id = ? AND button_type = ? AND ? AND EXISTS (SELECT 1 FROM ins)
+                RETURNING post_id
+            )
+            SELECT (SELECT emotion FROM target) AS emotion,
+                   (SELECT count(*) FROM ins) AS inserted,
+                   (SELECT count(*) FROM upd) AS updated
+            """;
+
+    private static final String TARGET_SQL = """
+            SELECT p.emotion
+            FROM posts p
+            JOIN post_button_stats s ON s.post_id = p.id AND s.button_type = ?
+            WHERE p.id = ? AND p.hidden = false
+            """;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO button_clicks (id, post_id, user_id, button_type) VALUES (?, ?, ?, ?)";
+
+    private static final String INCREASE_SQL =
+            "UPDATE post_button_stats SET click_count = click_count + 1 WHERE post_id = ? AND button_type = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseDialect dialect;
+
+    public ButtonClickJdbcRepository(JdbcTemplate jdbcTemplate, DatabaseDialect dialect) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dialect = dialect;
+    }
+
+    /**
+     * @param increaseCounter false면 click_count는 건드리지 않음 (write-behind 모드에서 메모리로 집계)
+     */
+    public ClickResult click(Long postId, Long userId, ButtonType type, boolean increaseCounter) {
+        return dialect.isPostgres()
+                ? clickPostgres(postId, userId, type, increaseCounter)
+                : clickGeneric(postId, userId, type, increaseCounter);
+    }
+
+    private ClickResult clickPostgres(Long postId, Long userId, ButtonType type, boolean increaseCounter) {
+        return jdbcTemplate.queryForObject(POSTGRES_CLICK_SQL, (rs, rowNum) -> {
+                    String emotion = rs.getString("emotion");
+                    if (emotion == null) {
+                        return new ClickResult(ClickStatus.REJECTED, null);
+                    }
+                    ClickStatus status = rs.getLong("inserted") > 0 ? ClickStatus.CLICKED : ClickStatus.DUPLICATE;
+                    return new ClickResult(status, Emotion.valueOf(emotion));
+                },
+                type.name(), postId,
+                TimeOrderedIds.next(), userId, type.name(),
+                postId, type.name(), increaseCounter);
+    }
+
+    private ClickResult clickGeneric(Long postId, Long userId, ButtonType type, boolean increaseCounter) {
+        String emotion = jdbcTemplate.query(TARGET_SQL,
+                rs -> rs.next() ? rs.getString(1) : null,
+                type.name(), postId);
+        if (emotion == null) {
+            return new ClickResult(ClickStatus.REJECTED, null);
+        }
+
+        try {
+            jdbcTemplate.update(INSERT_SQL, TimeOrderedIds.next(), postId, userId, type.name());
+        } catch (DuplicateKeyException e) {
+            return new ClickResult(ClickStatus.DUPLICATE, Emotion.valueOf(emotion));
+        }
+
+        if (increaseCounter) {
+            jdbcTemplate.update(INCREASE_SQL, postId, type.name());
+        }
+        return new ClickResult(ClickStatus.CLICKED, Emotion.valueOf(emotion));
+    }
+}
@@ -0,0 +1,39 @@
+package com.project.pjt_01.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+
+/**
+ * JDBC 저장소 공용 DB 종류 판별
+ * - 기동 시 DatabaseMetaData 를 한 번만 읽음 (저장소마다 / 호출마다 커넥션을 꺼내지 않음)
+ * - 읽지 못하면 표준 SQL 경로(H2 등과 같은 쪽)를 사용
+ */
+@Slf4j
+@Component
+public class DatabaseDialect {
+
+    private final boolean postgres;
+
+    public DatabaseDialect(JdbcTemplate jdbcTemplate) {
+        boolean result;
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(
+                    jdbcTemplate.getDataSource(), DatabaseMetaData::getDatabaseProductName);
+            result = "PostgreSQL".equalsIgnoreCase(product);
+        } catch (MetaDataAccessException e) {
+            log.warn("database product not detected, using portable SQL: {}", e.getMessage());
+            result = false;
+        }
+        this.postgres = result;
+    }
+
+    // PostgreSQL 전용 문장(ON CONFLICT upsert / CTE) 사용 여부
+    public boolean isPostgres() {
+        return postgres;
+    }
+}
@@ -4,11 +4,18 @@ import com.project.pjt_01.domain.ButtonType;
 import com.project.pjt_01.domain.Post;
 import com.project.pjt_01.domain.PostButtonStat;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface PostButtonStatRepository extends JpaRepository<PostButtonStat, Long> {
     Optional<PostButtonStat> findByPostAndButtonType(Post post, ButtonType type);
     List<PostButtonStat> findByPost(Post post);
+
+    // 피드 한 페이지 분량의 버튼 집계를 post_id IN (...) 한 번으로 조회
+    @Query("select s from PostButtonStat s where s.post.id in :postIds order by s.id")
+    List<PostButtonStat> findByPostIdIn(@Param("postIds") Collection<Long> postIds);
 }
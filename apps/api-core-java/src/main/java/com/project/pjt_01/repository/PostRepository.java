@@ -5,15 +5,66 @@ import com.project.pjt_01.domain.Post;
 import com.project.pjt_01.domain.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
 
+    // 피드 조회는 작성자 이름까지 한 번에 가져옴 (글마다 author 지연 로딩 방지)
+    @EntityGraph(attributePaths = "author")
     Page<Post> findByHiddenFalseOrderByCreatedAtDesc(Pageable pageable);
 
+    @EntityGraph(attributePaths = "author")
     Page<Post> findByHiddenFalseAndEmotionOrderByCreatedAtDesc(Emotion emotion, Pageable pageable);
 
+    // 타임라인 인덱스에서 뽑은 ID로 한 페이지 분량만 조회
+    @EntityGraph(attributePaths = "author")
+    List<Post> findByIdIn(Collection<Long> ids);
+
     Page<Post> findByAuthorOrderByCreatedAtDesc(User author, Pageable pageable);
 
     Page<Post> findByAuthorAndEmotionOrderByCreatedAtDesc(User author, Emotion emotion, Pageable pageable);
+
+    // 감정별 공개 글 수 (감정 통계 카운터 재동기화용)
+    @Query("select p.emotion, count(p) from Post p where p.hidden = false group by p.emotion")
+    List<Object[]> countVisibleGroupByEmotion();
+
+    // -----------------------------
+    // 키셋(커서) 페이지네이션 - List 반환이라 count 쿼리 없음
+    // -----------------------------
+    @EntityGraph(attributePaths = "author")
+    List<Post> findByHiddenFalseOrderByCreatedAtDescIdDesc(Pageable pageable);
+
+    @EntityGraph(attributePaths = "author")
+    List<Post> findByHiddenFalseAndEmotionOrderByCreatedAtDescIdDesc(Emotion emotion, Pageable pageable);
+
+    @EntityGraph(attributePaths = "author")
+    @Query("""
+            select p from Post p
+            where p.hidden = false
+              and (p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id))
+            order by p.createdAt desc, p.id desc
+            """)
+    List<Post> findVisibleBefore(@Param("createdAt") LocalDateTime createdAt,
+                                 @Param("id") Long id,
+                                 Pageable pageable);
+
+    @EntityGraph(attributePaths = "author")
+    @Query("""
+            select p from Post p
+            where p.hidden = false
+              and p.emotion = :emotion
+              and (p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id))
+            order by p.createdAt desc, p.id desc
+            """)
+    List<Post> findVisibleByEmotionBefore(@Param("emotion") Emotion emotion,
+                                          @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("id") Long id,
+                                          Pageable pageable);
 }
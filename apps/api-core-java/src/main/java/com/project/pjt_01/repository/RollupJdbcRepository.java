@@ -0,0 +1,181 @@
+package com.project.pjt_01.repository;
+
+import com.project.pjt_01.domain.ButtonType;
+import com.project.pjt_01.domain.Emotion;
+import com.project.pjt_01.domain.RollupGranularity;
+import com.project.pjt_01.domain.id.TimeOrderedIds;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 통계 롤업 테이블 접근 (emotion_rollups / click_rollups, JPA 우회)
+ * - 증분은 카운트에 더하기만 함: PostgreSQL 은 ON CONFLICT upsert 한 문장,
+ *   그 외(H2 등)는 UPDATE → 없으면 INSERT (동시 INSERT 로 제약 위반이면 다시 UPDATE)
+ * - compaction: 기준 시각 이전의 시간별 행을 잠그고 일별로 합친 뒤 삭제 (한 트랜잭션 안에서 호출)
+ *
+ * 글 롤업은 buttonType 이 항상 null
+ */
+@Repository
+public class RollupJdbcRepository {
+
+    public enum Kind {
+        POSTS, CLICKS
+    }
+
+    public record Key(LocalDateTime bucketStart, Emotion emotion, ButtonType buttonType) {}
+
+    public record Row(LocalDateTime bucketStart, Emotion emotion, ButtonType buttonType, long count) {}
+
+    private static final String POSTS_POSTGRES_UPSERT_SQL = """
+            INSERT INTO emotion_rollups (id, granularity, bucket_start, emotion, post_count)
+            VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT ON CONSTRAINT uk_emotion_rollup
+            DO UPDATE SET post_count = emotion_rollups.post_count + EXCLUDED.post_count
+            """;
+    private static final String POSTS_UPDATE_SQL =
+            "UPDATE emotion_rollups SET post_count = post_count + ? WHERE granularity = ? AND bucket_start = ? AND emotion = ?";
+    private static final String POSTS_INSERT_SQL =
+            "INSERT INTO emotion_rollups (id, granularity, bucket_start, emotion, post_count) VALUES (?, ?, ?, ?, ?)";
+    private static final String POSTS_HOURLY_LOCK_SQL =
+            "SELECT id, bucket_start, emotion, post_count FROM emotion_rollups "
+                    + "WHERE granularity = 'HOUR' AND bucket_start < ? FOR UPDATE";
+    private static final String POSTS_DELETE_SQL = "DELETE FROM emotion_rollups WHERE id = ?";
+    private static final String POSTS_RANGE_SQL =
+            "SELECT bucket_start, emotion, post_count FROM emotion_rollups "
+                    + "WHERE granularity = ? AND bucket_start >= ? AND bucket_start < ?";
+
+    private static final String CLICKS_POSTGRES_UPSERT_SQL = """
+            INSERT INTO click_rollups (id, granularity, bucket_start, emotion, button_type, click_count)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON CONFLICT ON CONSTRAINT uk_click_rollup
+            DO UPDATE SET click_count = click_rollups.click_count + EXCLUDED.click_count
+            """;
+    private static final String CLICKS_UPDATE_SQL =
+            "UPDATE click_rollups SET click_count = click_count + ? "
+                    + "WHERE granularity = ? AND bucket_start = ? AND emotion = ? AND button_type = ?";
+    private static final String CLICKS_INSERT_SQL =
+            "INSERT INTO click_rollups (id, granularity, bucket_start, emotion, button_type, click_count) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String CLICKS_HOURLY_LOCK_SQL =
+            "SELECT id, bucket_start, emotion, button_type, click_count FROM click_rollups "
+                    + "WHERE granularity = 'HOUR' AND bucket_start < ? FOR UPDATE";
+    private static final String CLICKS_DELETE_SQL = "DELETE FROM click_rollups WHERE id = ?";
+    private static final String CLICKS_RANGE_SQL =
+            "SELECT bucket_start, emotion, button_type, click_count FROM click_rollups "
+                    + "WHERE granularity = ? AND bucket_start >= ? AND bucket_start < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseDialect dialect;
+
+    public RollupJdbcRepository(JdbcTemplate jdbcTemplate, DatabaseDialect dialect) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dialect = dialect;
+    }
+
+    // 버킷별 증분 더하기 (잠금 순서를 고정해서 인스턴스 간 데드락 방지)
+    public void add(Kind kind, RollupGranularity granularity, Map<Key, Long> deltas) {
+        List<Map.Entry<Key, Long>> sorted = deltas.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(Comparator
+                        .comparing(Key::bucketStart)
+                        .thenComparing(Key::emotion)
+                        .thenComparing(k -> k.buttonType() == null ? "" : k.buttonType().name())))
+                .toList();
+        if (sorted.isEmpty()) {
+            return;
+        }
+
+        if (dialect.isPostgres()) {
+            List<Object[]> args = sorted.stream()
+                    .map(e -> insertArgs(kind, granularity, e.getKey(), e.getValue()))
+                    .toList();
+            jdbcTemplate.batchUpdate(kind == Kind.POSTS ? POSTS_POSTGRES_UPSERT_SQL : CLICKS_POSTGRES_UPSERT_SQL, args);
+            return;
+        }
+
+        String updateSql = (kind == Kind.POSTS) ? POSTS_UPDATE_SQL : CLICKS_UPDATE_SQL;
+        String insertSql = (kind == Kind.POSTS) ? POSTS_INSERT_SQL : CLICKS_INSERT_SQL;
+        List<Object[]> updateArgs = sorted.stream()
+                .map(e -> updateArgs(kind, granularity, e.getKey(), e.getValue()))
+                .toList();
+        int[] updated = jdbcTemplate.batchUpdate(updateSql, updateArgs);
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] != 0) {
+                continue;
+            }
+            Map.Entry<Key, Long> e = sorted.get(i);
+            try {
+                jdbcTemplate.update(insertSql, insertArgs(kind, granularity, e.getKey(), e.getValue()));
+            } catch (DuplicateKeyException ex) {
+                jdbcTemplate.update(updateSql, updateArgs.get(i));
+            }
+        }
+    }
+
+    /**
+     * cutoff 이전 시간별 행을 일별 행에 합치고 삭제
+     * - FOR UPDATE 로 잠가서 여러 인스턴스가 동시에 돌아도 한 번만 합쳐짐
+     * @return 합친 시간별 행 수
+     */
+    public int compactHourly(Kind kind, LocalDateTime cutoff) {
+        List<Long> ids = new ArrayList<>();
+        Map<Key, Long> daily = new HashMap<>();
+        jdbcTemplate.query(kind == Kind.POSTS ? POSTS_HOURLY_LOCK_SQL : CLICKS_HOURLY_LOCK_SQL,
+                (RowCallbackHandler) rs -> {
+                    ids.add(rs.getLong("id"));
+                    Row row = mapRow(kind, rs);
+                    Key day = new Key(row.bucketStart().toLocalDate().atStartOfDay(), row.emotion(), row.buttonType());
+                    daily.merge(day, row.count(), Long::sum);
+                },
+                Timestamp.valueOf(cutoff));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        add(kind, RollupGranularity.DAY, daily);
+        jdbcTemplate.batchUpdate(kind == Kind.POSTS ? POSTS_DELETE_SQL : CLICKS_DELETE_SQL,
+                ids.stream().map(id -> new Object[]{id}).toList());
+        return ids.size();
+    }
+
+    // [from, to) 구간의 해당 단위 행
+    public List<Row> findRange(Kind kind, RollupGranularity granularity, LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.query(kind == Kind.POSTS ? POSTS_RANGE_SQL : CLICKS_RANGE_SQL,
+                (rs, rowNum) -> mapRow(kind, rs),
+                granularity.name(), Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+    private static Row mapRow(Kind kind, ResultSet rs) throws SQLException {
+        LocalDateTime bucketStart = rs.getTimestamp("bucket_start").toLocalDateTime();
+        Emotion emotion = Emotion.valueOf(rs.getString("emotion"));
+        if (kind == Kind.POSTS) {
+            return new Row(bucketStart, emotion, null, rs.getLong("post_count"));
+        }
+        return new Row(bucketStart, emotion, ButtonType.valueOf(rs.getString("button_type")), rs.getLong("click_count"));
+    }
+
+    private static Object[] insertArgs(Kind kind, RollupGranularity granularity, Key key, long count) {
+        Timestamp bucketStart = Timestamp.valueOf(key.bucketStart());
+        return (kind == Kind.POSTS)
+                ? new Object[]{TimeOrderedIds.next(), granularity.name(), bucketStart, key.emotion().name(), count}
+                : new Object[]{TimeOrderedIds.next(), granularity.name(), bucketStart, key.emotion().name(),
+                        key.buttonType().name(), count};
+    }
+
+    private static Object[] updateArgs(Kind kind, RollupGranularity granularity, Key key, long count) {
+        Timestamp bucketStart = Timestamp.valueOf(key.bucketStart());
+        return (kind == Kind.POSTS)
+                ? new Object[]{count, granularity.name(), bucketStart, key.emotion().name()}
+                : new Object[]{count, granularity.name(), bucketStart, key.emotion().name(), key.buttonType().name()};
+    }
+}
@@ -1,6 +1,7 @@
 package com.project.pjt_01.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
@@ -14,20 +15,22 @@ public class JwtTokenProvider {
 
     private final Key key;
 
+    // 파서는 불변 + 스레드 안전 → 요청마다 새로 만들지 않고 재사용
+    private final JwtParser parser;
+
     public JwtTokenProvider(@Value("${jwt.secret}") String secret) {
         this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
     }
 
-    private Claims parseClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    // 서명 + 만료 검증 후 클레임 반환
+    public Claims parseClaims(String token) {
+        return parser.parseClaimsJws(token).getBody();
     }
 
     public String getSubject(String token) {
         return parseClaims(token).getSubject();
     }
 }
-
@@ -0,0 +1,92 @@
+package com.project.pjt_01.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.pjt_01.repository.UserRepository;
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Optional;
+
+/**
+ * 액세스 토큰 → UserPrincipal 변환 (인증 필터 fast path)
+ * - 토큰별로 결과를 크기 제한 + TTL 캐시에 보관 (캐시 히트면 파싱 / DB 조회 없음)
+ * - principal-source=claims 면 api-auth-java 가 넣어준 클레임(sub, username)만으로 생성 (DB 조회 없음)
+ * - principal-source=database(기본값) 면 기존처럼 users 테이블에서 조회
+ */
+@Component
+public class PrincipalResolver {
+
+    private static final long NO_EXPIRY = Long.MAX_VALUE;
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final UserRepository userRepository;
+    private final boolean fromClaims;
+    private final Cache<String, CachedPrincipal> cache;
+
+    public PrincipalResolver(JwtTokenProvider jwtTokenProvider,
+                             UserRepository userRepository,
+                             @Value("${writeflow.security.principal-source:database}") String principalSource,
+                             @Value("${writeflow.security.principal-cache.max-size:10000}") long maxSize,
+                             @Value("${writeflow.security.principal-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.userRepository = userRepository;
+        this.fromClaims = "claims".equalsIgnoreCase(principalSource);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    /**
+     * @return 유효하지 않은 토큰이면 예외, 사용자가 없으면 empty
+     */
+    public Optional<UserPrincipal> resolve(String token) {
+        CachedPrincipal cached = cache.getIfPresent(token);
+        if (cached != null) {
+            if (System.currentTimeMillis() < cached.expiresAtMillis()) {
+                return Optional.of(cached.principal());
+            }
+            // 토큰 자체가 만료됨 → 아래에서 다시 파싱 (만료 예외 발생)
+            cache.invalidate(token);
+        }
+
+        Claims claims = jwtTokenProvider.parseClaims(token);
+        Long userId = Long.parseLong(claims.getSubject());
+
+        Optional<UserPrincipal> principal = fromClaims
+                ? fromClaims(userId, claims)
+                : userRepository.findById(userId).map(UserPrincipal::from);
+
+        principal.ifPresent(p -> cache.put(token, new CachedPrincipal(p, expiryOf(claims))));
+        return principal;
+    }
+
+    private Optional<UserPrincipal> fromClaims(Long userId, Claims claims) {
+        // 리프레시 토큰으로 API 호출하는 것은 막음
+        Object type = claims.get("type");
+        if (type != null && !"access".equals(type)) {
+            throw new IllegalArgumentException("액세스 토큰이 아닙니다.");
+        }
+
+        String username = claims.get("username", String.class);
+        return Optional.of(new UserPrincipal(
+                userId,
+                username,
+                null,
+                Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))
+        ));
+    }
+
+    private long expiryOf(Claims claims) {
+        Date exp = claims.getExpiration();
+        return (exp == null) ? NO_EXPIRY : exp.getTime();
+    }
+
+    private record CachedPrincipal(UserPrincipal principal, long expiresAtMillis) {}
+}
@@ -0,0 +1,176 @@
+package com.project.pjt_01.seed;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 대량 적재용 행 스트림 (JPA 우회)
+ * - PostgreSQL: COPY ... FROM STDIN (CSV) 로 1MB 단위 전송
+ * - 그 외(H2 등): 다중 행 INSERT (VALUES (...), (...), ...) 를 batchRows 행씩 실행
+ * 값은 Long / Integer / Boolean / String / null 만 사용 (시각은 "yyyy-MM-dd HH:mm:ss.SSS" 문자열)
+ */
+abstract class BulkSink implements AutoCloseable {
+
+    protected final String table;
+    protected final String[] columns;
+    private long rows;
+
+    private BulkSink(String table, String[] columns) {
+        this.table = table;
+        this.columns = columns;
+    }
+
+    static BulkSink open(Connection con, boolean postgres, String table, String[] columns, int batchRows)
+            throws SQLException {
+        return postgres
+                ? new CopySink(con, table, columns)
+                : new MultiRowInsertSink(con, table, columns, batchRows);
+    }
+
+    final void add(Object... values) throws SQLException {
+        if (values.length != columns.length) {
+            throw new IllegalArgumentException(table + " 컬럼 수와 값 개수가 다릅니다.");
+        }
+        write(values);
+        rows++;
+    }
+
+    final long rows() {
+        return rows;
+    }
+
+    protected abstract void write(Object[] values) throws SQLException;
+
+    @Override
+    public abstract void close() throws SQLException;
+
+    private static final class CopySink extends BulkSink {
+
+        private static final int FLUSH_CHARS = 1 << 20;
+
+        private final CopyIn copyIn;
+        private final StringBuilder buffer = new StringBuilder(FLUSH_CHARS + 4096);
+
+        CopySink(Connection con, String table, String[] columns) throws SQLException {
+            super(table, columns);
+            String sql = "COPY " + table + " (" + String.join(", ", columns) + ") FROM STDIN WITH (FORMAT csv)";
+            this.copyIn = con.unwrap(PGConnection.class).getCopyAPI().copyIn(sql);
+        }
+
+        @Override
+        protected void write(Object[] values) throws SQLException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    buffer.append(',');
+                }
+                appendCsv(values[i]);
+            }
+            buffer.append('\n');
+            if (buffer.length() >= FLUSH_CHARS) {
+                flush();
+            }
+        }
+
+        // null = 빈 칸(따옴표 없음), 문자열은 항상 따옴표 (빈 문자열과 null 구분)
+        private void appendCsv(Object value) {
+            if (value == null) {
+                return;
+            }
+            if (value instanceof String s) {
+                buffer.append('"');
+                for (int i = 0; i < s.length(); i++) {
+                    char c = s.charAt(i);
+                    if (c == '"') {
+                        buffer.append('"');
+                    }
+                    buffer.append(c);
+                }
+                buffer.append('"');
+                return;
+            }
+            buffer.append(value);
+        }
+
+        private void flush() throws SQLException {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+            buffer.setLength(0);
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                flush();
+                copyIn.endCopy();
+            } catch (SQLException | RuntimeException e) {
+                if (copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+                throw e;
+            }
+        }
+    }
+
+    private static final class MultiRowInsertSink extends BulkSink {
+
+        private final Connection con;
+        private final int batchRows;
+        private final PreparedStatement fullBatch;
+        private final List<Object[]> pending;
+
+        MultiRowInsertSink(Connection con, String table, String[] columns, int batchRows) throws SQLException {
+            super(table, columns);
+            this.con = con;
+            this.batchRows = batchRows;
+            this.fullBatch = con.prepareStatement(insertSql(batchRows));
+            this.pending = new ArrayList<>(batchRows);
+        }
+
+        @Override
+        protected void write(Object[] values) throws SQLException {
+            pending.add(values);
+            if (pending.size() == batchRows) {
+                execute(fullBatch);
+            }
+        }
+
+        private void execute(PreparedStatement ps) throws SQLException {
+            int index = 1;
+            for (Object[] row : pending) {
+                for (Object value : row) {
+                    ps.setObject(index++, value);
+                }
+            }
+            ps.executeUpdate();
+            pending.clear();
+        }
+
+        private String insertSql(int rowCount) {
+            String row = "(" + String.join(", ", Collections.nCopies(columns.length, "?")) + ")";
+            return "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES "
+                    + String.join(", ", Collections.nCopies(rowCount, row));
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try (fullBatch) {
+                if (!pending.isEmpty()) {
+                    try (PreparedStatement tail = con.prepareStatement(insertSql(pending.size()))) {
+                        execute(tail);
+                    }
+                }
+            }
+        }
+    }
+}
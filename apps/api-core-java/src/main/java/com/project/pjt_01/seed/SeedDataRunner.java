@@ -0,0 +1,312 @@
+package com.project.pjt_01.seed;
+
+import com.project.pjt_01.seed.SeedPlanner.PostPlan;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * 부하 테스트용 대량 시드 데이터 적재 (seed 프로필에서만 동작)
+ *   SPRING_PROFILES_ACTIVE=dev,seed ./gradlew bootRun
+ * - 사용자 / 7개 감정 글 / 사용자 정의 라벨 버튼 집계 / 클릭 / 신고를 seed 값으로 결정적으로 생성
+ * - PostgreSQL 은 COPY, 그 외는 다중 행 INSERT 로 테이블별 한 번씩 스트리밍 적재 (JPA / 엔티티 없음)
+ * - 버튼 집계 click_count / 신고 수 / 숨김 여부는 적재한 클릭 / 신고와 일치
+ * - 테이블마다 한 트랜잭션: 테이블은 전부 적재됐거나 전혀 없음
+ *   같은 seed 로 이미 적재된 테이블은 (그 테이블의 첫 시드 행 ID로 확인) 건너뜀
+ *   → 중간에 실패해도 다시 실행하면 남은 테이블부터 이어서 적재
+ *
+ * ApplicationRunner 라서 메모리 인덱스 / 통계 재구성(ApplicationReadyEvent)보다 먼저 끝남
+ */
+@Slf4j
+@Component
+@Profile("seed")
+public class SeedDataRunner implements ApplicationRunner {
+
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+    private static final long DAY_MS = 86_400_000L;
+    private static final long PROGRESS_EVERY = 1_000_000L;
+
+    private final DataSource dataSource;
+    private final long seed;
+    private final int users;
+    private final int posts;
+    private final long clicks;
+    private final int days;
+    private final String until;
+    private final double reportRatio;
+    private final int batchRows;
+
+    public SeedDataRunner(DataSource dataSource,
+                          @Value("${writeflow.seed.seed:42}") long seed,
+                          @Value("${writeflow.seed.users:10000}") int users,
+                          @Value("${writeflow.seed.posts:1000000}") int posts,
+                          @Value("${writeflow.seed.clicks:10000000}") long clicks,
+                          @Value("${writeflow.seed.days:30}") int days,
+                          @Value("${writeflow.seed.until:}") String until,
+                          @Value("${writeflow.seed.report-ratio:0.005}") double reportRatio,
+                          @Value("${writeflow.seed.batch-rows:500}") int batchRows) {
+        this.dataSource = dataSource;
+        this.seed = seed;
+        this.users = users;
+        this.posts = posts;
+        this.clicks = clicks;
+        this.days = days;
+        this.until = until;
+        this.reportRatio = reportRatio;
+        this.batchRows = batchRows;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws SQLException {
+        // until 이 같으면 ID / 시각까지 같음 (기본: 오늘 00:00)
+        LocalDate untilDate = until.isBlank() ? LocalDate.now() : LocalDate.parse(until);
+        long untilMs = untilDate.atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        SeedPlanner planner = new SeedPlanner(seed, users, posts, clicks, untilMs - days * DAY_MS, untilMs, reportRatio);
+
+        try (Connection con = dataSource.getConnection()) {
+            boolean postgres = "PostgreSQL".equals(con.getMetaData().getDatabaseProductName());
+            long started = System.nanoTime();
+            boolean loaded = false;
+
+            // 사용자 ID 는 적재 시점의 MAX(id) 뒤라서 이미 적재됐으면 첫 시드 사용자의 ID 를 그대로 사용
+            Long seededUserId = findLong(con, "SELECT id FROM users WHERE username = ?", username(0));
+            long firstUserId;
+            if (seededUserId != null) {
+                firstUserId = seededUserId;
+                log.info("seed {}: users already loaded, skipping", seed);
+            } else {
+                firstUserId = queryLong(con, "SELECT COALESCE(MAX(id), 0) FROM users") + 1;
+                inTransaction(con, () -> loadUsers(con, postgres, planner, firstUserId));
+                resetUserIdentity(con, postgres);
+                loaded = true;
+            }
+
+            PostPlan first = (planner.posts() > 0) ? planner.plan(0) : null;
+            loaded |= loadTable(con, "posts", (first != null) ? first.postId() : null,
+                    () -> loadPosts(con, postgres, planner, firstUserId));
+            loaded |= loadTable(con, "post_button_stats", (first != null) ? first.statId(0) : null,
+                    () -> loadButtonStats(con, postgres, planner));
+            loaded |= loadTable(con, "button_clicks", firstChildId(planner, PostPlan::clickCount),
+                    () -> loadClicks(con, postgres, planner, firstUserId));
+            loaded |= loadTable(con, "post_reports", firstChildId(planner, PostPlan::reportCount),
+                    () -> loadReports(con, postgres, planner, firstUserId));
+
+            if (!loaded) {
+                log.info("seed {} already loaded, skipping", seed);
+                return;
+            }
+            if (postgres) {
+                try (Statement st = con.createStatement()) {
+                    st.execute("ANALYZE users, posts, post_button_stats, button_clicks, post_reports");
+                }
+            }
+            log.info("seed {} loaded in {} s", seed, (System.nanoTime() - started) / 1_000_000_000L);
+        }
+    }
+
+    // markerId 행(이 테이블의 첫 시드 행)이 있으면 이미 적재된 것으로 보고 건너뜀, 적재할 행이 없으면(null) 할 일 없음
+    private boolean loadTable(Connection con, String table, Long markerId, SqlWork load) throws SQLException {
+        if (markerId == null) {
+            return false;
+        }
+        if (findLong(con, "SELECT id FROM " + table + " WHERE id = ?", markerId) != null) {
+            log.info("seed {}: {} already loaded, skipping", seed, table);
+            return false;
+        }
+        inTransaction(con, load);
+        return true;
+    }
+
+    private static void inTransaction(Connection con, SqlWork work) throws SQLException {
+        con.setAutoCommit(false);
+        try {
+            work.run();
+            con.commit();
+        } catch (SQLException | RuntimeException e) {
+            con.rollback();
+            throw e;
+        } finally {
+            con.setAutoCommit(true);
+        }
+    }
+
+    // 자식 행(클릭 / 신고)이 있는 첫 글의 첫 자식 행 ID (없으면 null)
+    private static Long firstChildId(SeedPlanner planner, ToIntFunction<PostPlan> childCount) {
+        for (int i = 0; i < planner.posts(); i++) {
+            PostPlan p = planner.plan(i);
+            if (childCount.applyAsInt(p) > 0) {
+                return p.childId(0);
+            }
+        }
+        return null;
+    }
+
+    private void loadUsers(Connection con, boolean postgres, SeedPlanner planner, long firstUserId) throws SQLException {
+        // 모든 시드 사용자 비밀번호 = "password" (해시는 한 번만 계산)
+        String password = new BCryptPasswordEncoder().encode("password");
+        String now = TIMESTAMP.format(LocalDateTime.now());
+        // 인증 서비스와 같은 DB 면 users.nickname(NOT NULL) 도 채움
+        boolean nickname = hasColumn(con, "users", "nickname");
+
+        List<String> columns = new ArrayList<>(List.of("id", "username", "email", "password", "created_at", "updated_at"));
+        if (nickname) {
+            columns.add("nickname");
+        }
+        long started = System.nanoTime();
+        try (BulkSink sink = BulkSink.open(con, postgres, "users", columns.toArray(String[]::new), batchRows)) {
+            for (int u = 0; u < planner.users(); u++) {
+                String name = username(u);
+                if (nickname) {
+                    sink.add(firstUserId + u, name, name + "@seed.writeflow.local", password, now, now, name);
+                } else {
+                    sink.add(firstUserId + u, name, name + "@seed.writeflow.local", password, now, now);
+                }
+            }
+            logDone(sink, started);
+        }
+    }
+
+    // ID 를 직접 넣었으므로 IDENTITY 다음 값을 최대 ID 뒤로
+    private void resetUserIdentity(Connection con, boolean postgres) throws SQLException {
+        long next = queryLong(con, "SELECT COALESCE(MAX(id), 0) FROM users") + 1;
+        try (Statement st = con.createStatement()) {
+            if (postgres) {
+                st.execute("SELECT setval(pg_get_serial_sequence('users', 'id'), " + (next - 1) + ")");
+            } else {
+                st.execute("ALTER TABLE users ALTER COLUMN id RESTART WITH " + next);
+            }
+        }
+    }
+
+    private void loadPosts(Connection con, boolean postgres, SeedPlanner planner, long firstUserId) throws SQLException {
+        String[] columns = {"id", "author_id", "content", "emotion", "hidden", "reported_count", "created_at", "updated_at"};
+        long started = System.nanoTime();
+        try (BulkSink sink = BulkSink.open(con, postgres, "posts", columns, batchRows)) {
+            for (int i = 0; i < planner.posts(); i++) {
+                PostPlan p = planner.plan(i);
+                String createdAt = timestamp(p.createdAtMs());
+                sink.add(p.postId(), firstUserId + p.authorIndex(), p.content(), p.emotion().name(),
+                        p.hidden(), p.reportCount(), createdAt, createdAt);
+                progress(sink);
+            }
+            logDone(sink, started);
+        }
+    }
+
+    private void loadButtonStats(Connection con, boolean postgres, SeedPlanner planner) throws SQLException {
+        String[] columns = {"id", "post_id", "button_type", "button_label", "click_count"};
+        long started = System.nanoTime();
+        try (BulkSink sink = BulkSink.open(con, postgres, "post_button_stats", columns, batchRows)) {
+            for (int i = 0; i < planner.posts(); i++) {
+                PostPlan p = planner.plan(i);
+                int[] counts = new int[p.buttons().length];
+                p.forEachClick((k, userIndex, button) -> counts[button]++);
+                for (int b = 0; b < p.buttons().length; b++) {
+                    sink.add(p.statId(b), p.postId(), p.buttons()[b].name(), p.labels()[b], counts[b]);
+                }
+                progress(sink);
+            }
+            logDone(sink, started);
+        }
+    }
+
+    private void loadClicks(Connection con, boolean postgres, SeedPlanner planner, long firstUserId) throws SQLException {
+        String[] columns = {"id", "post_id", "user_id", "button_type"};
+        long started = System.nanoTime();
+        try (BulkSink sink = BulkSink.open(con, postgres, "button_clicks", columns, batchRows)) {
+            for (int i = 0; i < planner.posts(); i++) {
+                PostPlan p = planner.plan(i);
+                p.forEachClick((k, userIndex, button) -> {
+                    sink.add(p.childId(k), p.postId(), firstUserId + userIndex, p.buttons()[button].name());
+                    progress(sink);
+                });
+            }
+            logDone(sink, started);
+        }
+    }
+
+    private void loadReports(Connection con, boolean postgres, SeedPlanner planner, long firstUserId) throws SQLException {
+        String[] columns = {"id", "post_id", "user_id"};
+        long started = System.nanoTime();
+        try (BulkSink sink = BulkSink.open(con, postgres, "post_reports", columns, batchRows)) {
+            for (int i = 0; i < planner.posts(); i++) {
+                PostPlan p = planner.plan(i);
+                p.forEachReport((k, userIndex) -> sink.add(p.childId(k), p.postId(), firstUserId + userIndex));
+            }
+            logDone(sink, started);
+        }
+    }
+
+    private String username(int userIndex) {
+        return "seed" + seed + "_" + userIndex;
+    }
+
+    private static String timestamp(long epochMs) {
+        return TIMESTAMP.format(LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMs), ZoneId.systemDefault()));
+    }
+
+    private static void progress(BulkSink sink) {
+        if (sink.rows() % PROGRESS_EVERY == 0) {
+            log.info("seed {}: {} rows", sink.table, sink.rows());
+        }
+    }
+
+    private static void logDone(BulkSink sink, long startedNanos) {
+        long ms = Math.max(1, (System.nanoTime() - startedNanos) / 1_000_000);
+        log.info("seed {}: {} rows in {} ms ({} rows/s)", sink.table, sink.rows(), ms, sink.rows() * 1000 / ms);
+    }
+
+    private static Long findLong(Connection con, String sql, Object param) throws SQLException {
+        try (PreparedStatement ps = con.prepareStatement(sql)) {
+            ps.setObject(1, param);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() ? rs.getLong(1) : null;
+            }
+        }
+    }
+
+    private static long queryLong(Connection con, String sql) throws SQLException {
+        try (Statement st = con.createStatement(); ResultSet rs = st.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    // 결과 없는 조회의 메타데이터로 확인 (DB마다 다른 식별자 대소문자 신경 쓰지 않음)
+    private static boolean hasColumn(Connection con, String table, String column) throws SQLException {
+        try (Statement st = con.createStatement(); ResultSet rs = st.executeQuery("SELECT * FROM " + table + " WHERE 1 = 0")) {
+            ResultSetMetaData meta = rs.getMetaData();
+            for (int i = 1; i <= meta.getColumnCount(); i++) {
+                if (column.equalsIgnoreCase(meta.getColumnLabel(i))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @FunctionalInterface
+    private interface SqlWork {
+        void run() throws SQLException;
+    }
+}
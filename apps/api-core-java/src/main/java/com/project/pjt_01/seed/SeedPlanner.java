@@ -0,0 +1,238 @@
+package com.project.pjt_01.seed;
+
+import com.project.pjt_01.domain.ButtonType;
+import com.project.pjt_01.domain.Emotion;
+import com.project.pjt_01.domain.id.TimeOrderedIds;
+
+import java.sql.SQLException;
+import java.util.SplittableRandom;
+
+/**
+ * 시드 데이터 설계도 - (seed, 글 번호)만으로 글 하나와 그 버튼 / 클릭 / 신고를 결정적으로 만듦
+ * - 테이블마다 글 전체를 다시 훑어도 같은 결과 → 메모리에 쌓지 않고 테이블별로 한 번씩 적재
+ * - 글 i 는 [from + i·w, from + (i+1)·w) 구간(w = 기간 / 글 수)을 혼자 씀
+ *   ID = (구간 시작 + k/256 ms, 시드 전용 노드, k%256) → 다른 글 / 운영 ID 와 겹치지 않음
+ * - 클릭 수는 Pareto 분포 (소수 글에 클릭이 몰림), 클릭 사용자는 글마다 서로 다른 보폭으로 중복 없이 고름
+ */
+final class SeedPlanner {
+
+    // 시드 데이터 전용 노드 번호 (TimeOrderedIds 가 인스턴스 노드 번호로는 거부)
+    static final long SEED_NODE = TimeOrderedIds.SEED_NODE;
+    // PostService 의 신고 숨김 임계치와 같은 값
+    static final int REPORT_THRESHOLD = 15;
+
+    // 감정별 비중 (Emotion 선언 순서)
+    private static final int[] EMOTION_WEIGHTS = {22, 12, 20, 14, 16, 6, 10};
+
+    private static final String[][] OPENINGS = {
+            {"오늘 정말 기분 좋은 일이 있었어요.", "드디어 합격 소식을 들었어요!", "오랜만에 친구를 만나서 웃었어요."},
+            {"출근길에 새치기를 당했어요.", "약속을 또 어겼다는 연락을 받았어요.", "회의에서 제 의견이 무시당했어요."},
+            {"오늘은 이유 없이 눈물이 나요.", "키우던 화분이 시들어 버렸어요.", "연락하던 사람이 멀어진 것 같아요."},
+            {"주말에 다녀온 여행이 너무 즐거웠어요.", "새로 배운 요리가 대성공이었어요.", "좋아하는 밴드 공연을 보고 왔어요."},
+            {"고마운 사람에게 편지를 썼어요.", "가족이랑 저녁을 먹으며 많이 웃었어요.", "오래 만난 사람에게 고백을 받았어요."},
+            {"같은 말을 반복하게 만드는 사람이 있어요.", "뒤에서 제 얘기를 한다는 걸 알았어요.", "예의 없는 말투에 하루가 망가졌어요."},
+            {"올해 안에 꼭 이루고 싶은 목표가 생겼어요.", "새벽마다 공부를 시작했어요.", "언젠가 제 가게를 열고 싶어요."}
+    };
+
+    private static final String[] CLOSINGS = {
+            "누군가 들어줬으면 해서 적어봐요.", "내일은 조금 더 나아지겠죠.", "다들 비슷한 경험 있나요?",
+            "그냥 기록해두고 싶었어요.", "오늘 하루도 수고했어요.", ""
+    };
+
+    // ButtonType 선언 순서별 사용자 정의 라벨 후보
+    private static final String[][] LABELS = {
+            {"공감해요", "나도 그래요", "맞아요"},
+            {"힘내요", "토닥토닥", "괜찮아요"},
+            {"슬퍼요", "마음 아파요", "눈물 나요"},
+            {"행복해요", "축하해요", "좋겠다"},
+            {"좋아요", "최고예요", "멋져요"},
+            {"화나요", "어이없네요", "너무해요"},
+            {"싫어요", "별로예요", "그건 좀"}
+    };
+
+    private final long seed;
+    private final int users;
+    private final int posts;
+    private final long fromMs;
+    private final long windowMs;
+    private final double paretoScale;
+    private final int maxClicksPerPost;
+    private final double reportRatio;
+
+    SeedPlanner(long seed, int users, int posts, long clicks, long fromMs, long untilMs, double reportRatio) {
+        if (users < 2 || posts < 1) {
+            throw new IllegalArgumentException("users 는 2 이상, posts 는 1 이상이어야 합니다.");
+        }
+        this.windowMs = (untilMs - fromMs) / posts;
+        if (windowMs < 1) {
+            throw new IllegalArgumentException("기간(ms)이 글 수보다 길어야 합니다.");
+        }
+        this.seed = seed;
+        this.users = users;
+        this.posts = posts;
+        this.fromMs = fromMs;
+        this.reportRatio = reportRatio;
+        // 글 구간 하나에 ID 를 256·w 개까지 만들 수 있고, 같은 글에 같은 사용자가 두 번 클릭할 수 없음
+        this.maxClicksPerPost = (int) Math.min(users, Math.min(256L * windowMs, Integer.MAX_VALUE));
+        // Pareto(alpha = 2) 평균 = 2·scale → scale = 평균 / 2
+        this.paretoScale = (double) clicks / posts / 2.0;
+    }
+
+    int posts() {
+        return posts;
+    }
+
+    int users() {
+        return users;
+    }
+
+    PostPlan plan(int index) {
+        SplittableRandom rnd = new SplittableRandom(seed * 0x9E3779B97F4A7C15L + index);
+        long createdAtMs = fromMs + index * windowMs;
+
+        Emotion emotion = Emotion.values()[weighted(rnd, EMOTION_WEIGHTS)];
+        int authorIndex = rnd.nextInt(users);
+        String[] openings = OPENINGS[emotion.ordinal()];
+        String closing = CLOSINGS[rnd.nextInt(CLOSINGS.length)];
+        String content = openings[rnd.nextInt(openings.length)] + (closing.isEmpty() ? "" : " " + closing);
+
+        // 버튼 1~7개 (중복 없이 섞어서 앞에서부터)
+        ButtonType[] all = ButtonType.values().clone();
+        for (int i = all.length - 1; i > 0; i--) {
+            int j = rnd.nextInt(i + 1);
+            ButtonType t = all[i];
+            all[i] = all[j];
+            all[j] = t;
+        }
+        int buttonCount = 1 + rnd.nextInt(all.length);
+        ButtonType[] buttons = new ButtonType[buttonCount];
+        String[] labels = new String[buttonCount];
+        for (int i = 0; i < buttonCount; i++) {
+            buttons[i] = all[i];
+            String[] candidates = LABELS[all[i].ordinal()];
+            labels[i] = candidates[rnd.nextInt(candidates.length)];
+        }
+
+        double pareto = paretoScale / Math.sqrt(1.0 - rnd.nextDouble());
+        int clickCount = (int) Math.min(maxClicksPerPost, (long) pareto);
+
+        int reportCount = 0;
+        if (rnd.nextDouble() < reportRatio) {
+            reportCount = Math.min(maxClicksPerPost, 1 + rnd.nextInt(REPORT_THRESHOLD + 10));
+        }
+
+        return new PostPlan(
+                index,
+                TimeOrderedIds.of(createdAtMs, SEED_NODE, 0),
+                createdAtMs,
+                emotion,
+                authorIndex,
+                content,
+                buttons,
+                labels,
+                clickCount,
+                reportCount,
+                rnd.nextLong(),
+                users
+        );
+    }
+
+    private static int weighted(SplittableRandom rnd, int[] weights) {
+        int total = 0;
+        for (int w : weights) {
+            total += w;
+        }
+        int r = rnd.nextInt(total);
+        for (int i = 0; i < weights.length; i++) {
+            r -= weights[i];
+            if (r < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    /**
+     * 글 하나의 설계
+     * - 클릭 / 신고는 childSeed 로 매번 같은 순서로 다시 생성 (버튼 집계 적재와 클릭 적재가 같은 결과)
+     */
+    record PostPlan(
+            int index,
+            long postId,
+            long createdAtMs,
+            Emotion emotion,
+            int authorIndex,
+            String content,
+            ButtonType[] buttons,
+            String[] labels,
+            int clickCount,
+            int reportCount,
+            long childSeed,
+            int users
+    ) {
+
+        boolean hidden() {
+            return reportCount >= REPORT_THRESHOLD;
+        }
+
+        // 버튼 집계 행 ID (버튼 순번 k < 7)
+        long statId(int k) {
+            return TimeOrderedIds.of(createdAtMs, SEED_NODE, k);
+        }
+
+        // 글 구간 안에서 k 번째 자식 행 ID (클릭 / 신고 각각의 테이블 안에서 유일)
+        long childId(int k) {
+            return TimeOrderedIds.of(createdAtMs + (k >>> 8), SEED_NODE, k & 0xFF);
+        }
+
+        // 클릭 k 번째 → (사용자 번호, buttons 인덱스)
+        void forEachClick(ClickVisitor visitor) throws SQLException {
+            SplittableRandom rnd = new SplittableRandom(childSeed);
+            int start = rnd.nextInt(users);
+            int stride = coprimeStride(rnd, users);
+            for (int k = 0; k < clickCount; k++) {
+                // 앞쪽 버튼일수록 많이 눌림
+                int button = Math.min(rnd.nextInt(buttons.length), rnd.nextInt(buttons.length));
+                visitor.visit(k, (int) ((start + (long) k * stride) % users), button);
+            }
+        }
+
+        // 신고 k 번째 → 사용자 번호
+        void forEachReport(ReportVisitor visitor) throws SQLException {
+            SplittableRandom rnd = new SplittableRandom(~childSeed);
+            int start = rnd.nextInt(users);
+            int stride = coprimeStride(rnd, users);
+            for (int k = 0; k < reportCount; k++) {
+                visitor.visit(k, (int) ((start + (long) k * stride) % users));
+            }
+        }
+
+        // users 와 서로소인 보폭 → start + k·stride (mod users) 가 k < users 동안 겹치지 않음
+        private static int coprimeStride(SplittableRandom rnd, int users) {
+            int stride = 1 + rnd.nextInt(users - 1);
+            while (gcd(stride, users) != 1) {
+                stride = (stride % (users - 1)) + 1;
+            }
+            return stride;
+        }
+
+        private static int gcd(int a, int b) {
+            while (b != 0) {
+                int t = a % b;
+                a = b;
+                b = t;
+            }
+            return a;
+        }
+    }
+
+    @FunctionalInterface
+    interface ClickVisitor {
+        void visit(int k, int userIndex, int buttonIndex) throws SQLException;
+    }
+
+    @FunctionalInterface
+    interface ReportVisitor {
+        void visit(int k, int userIndex) throws SQLException;
+    }
+}
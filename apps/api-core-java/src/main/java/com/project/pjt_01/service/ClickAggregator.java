@@ -0,0 +1,157 @@
+package com.project.pjt_01.service;
+
+import com.project.pjt_01.domain.ButtonType;
+import com.project.pjt_01.event.PostEvents.ButtonClicked;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 버튼 클릭 수 쓰기 지연(write-behind) 집계기
+ * - 클릭은 (postId, buttonType)별 LongAdder(스트라이프 카운터)에 쌓기만 하고 DB 행 잠금을 잡지 않음
+ * - 짧은 주기로 모아서 UPDATE ... SET click_count = click_count + ? 배치 한 번으로 반영
+ * - 클릭 커밋 후(ButtonClicked)에만 쌓음 → 롤백된 클릭은 세지 않음
+ * - 조회 시 아직 반영 안 된 증분(pendingDelta)을 더해서 보여줌
+ *
+ * writeflow.clicks.write-behind.enabled=false(기본값)이면 기존처럼 즉시 증가
+ */
+@Slf4j
+@Component
+public class ClickAggregator {
+
+    private static final String FLUSH_SQL =
+            "UPDATE post_button_stats SET click_count = click_count + ? WHERE post_id = ? AND button_type = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+
+    // 아직 DB에 반영되지 않은 증분
+    private final ConcurrentHashMap<ClickKey, LongAdder> pending = new ConcurrentHashMap<>();
+
+    // DB에 쓰는 중인 증분 (커밋 전까지 조회에 합산)
+    private final ConcurrentHashMap<ClickKey, Long> inFlight = new ConcurrentHashMap<>();
+
+    // 맵에서 뺀 카운터 - 직전에 참조를 잡은 스레드의 증분을 놓치지 않도록 한 주기 더 비운 뒤 버림
+    private List<Map.Entry<ClickKey, LongAdder>> retired = new ArrayList<>();
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public ClickAggregator(JdbcTemplate jdbcTemplate,
+                           TransactionTemplate transactionTemplate,
+                           @Value("${writeflow.clicks.write-behind.enabled:false}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @TransactionalEventListener
+    public void onButtonClicked(ButtonClicked event) {
+        if (enabled) {
+            pending.computeIfAbsent(new ClickKey(event.postId(), event.buttonType()), k -> new LongAdder()).increment();
+        }
+    }
+
+    // 조회 응답에 더해줄 미반영 클릭 수
+    public int pendingDelta(Long postId, ButtonType type) {
+        if (!enabled) {
+            return 0;
+        }
+        ClickKey key = new ClickKey(postId, type);
+        LongAdder adder = pending.get(key);
+        long delta = (adder == null) ? 0L : adder.sum();
+        return (int) (delta + inFlight.getOrDefault(key, 0L));
+    }
+
+    @Scheduled(fixedDelayString = "${writeflow.clicks.write-behind.flush-interval-ms:500}")
+    public void flush() {
+        if (!enabled) {
+            return;
+        }
+
+        flushLock.lock();
+        try {
+            Map<ClickKey, Long> deltas = new HashMap<>();
+
+            // 지난 주기에 빠진 카운터의 잔여분
+            for (Map.Entry<ClickKey, LongAdder> e : retired) {
+                drain(e.getKey(), e.getValue(), deltas);
+            }
+            retired = new ArrayList<>();
+
+            for (Map.Entry<ClickKey, LongAdder> e : pending.entrySet()) {
+                if (drain(e.getKey(), e.getValue(), deltas) == 0 && pending.remove(e.getKey(), e.getValue())) {
+                    // 이번 주기 클릭이 없던 키는 맵에서 제거 (메모리 상한)
+                    retired.add(e);
+                }
+            }
+
+            if (deltas.isEmpty()) {
+                return;
+            }
+
+            try {
+                write(deltas);
+            } catch (RuntimeException ex) {
+                // 실패한 증분은 다음 주기에 다시 시도
+                log.warn("click flush failed, re-queueing {} keys: {}", deltas.size(), ex.getMessage());
+                deltas.forEach((key, d) ->
+                        pending.computeIfAbsent(key, k -> new LongAdder()).add(d));
+            } finally {
+                deltas.keySet().forEach(inFlight::remove);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // 카운터 → inFlight 로 옮김: inFlight 에 먼저 올리고 카운터에서 뺌
+    // (옮기는 순간 조회에 잠깐 두 번 보일 수는 있어도 빠지지는 않음)
+    private long drain(ClickKey key, LongAdder adder, Map<ClickKey, Long> deltas) {
+        long d = adder.sum();
+        if (d != 0) {
+            inFlight.merge(key, d, Long::sum);
+            adder.add(-d);
+            deltas.merge(key, d, Long::sum);
+        }
+        return d;
+    }
+
+    private void write(Map<ClickKey, Long> deltas) {
+        // 잠금 순서를 고정해서 인스턴스 간 데드락 방지
+        List<Object[]> args = deltas.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(
+                        Comparator.comparing(ClickKey::postId).thenComparing(ClickKey::type)))
+                .map(e -> new Object[]{e.getValue(), e.getKey().postId(), e.getKey().type().name()})
+                .toList();
+
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, args));
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        // 종료 직전 남은 잔여분까지 반영
+        flush();
+    }
+
+    private record ClickKey(Long postId, ButtonType type) {}
+}
@@ -0,0 +1,257 @@
+package com.project.pjt_01.service;
+
+import com.project.pjt_01.dto.post.PostDtos.ButtonStatDto;
+import com.project.pjt_01.event.PostEvents.ButtonClicked;
+import com.project.pjt_01.event.PostEvents.PostHidden;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 글별 버튼 클릭 수 실시간 스트림 (SSE)
+ * - 클릭 커밋 후 글 ID만 dirty 로 표시하고, coalesce-ms 주기로 글마다 한 번만 집계 조회
+ * - 연결마다 마지막으로 보낸 값을 기억해서 바뀐 버튼만(delta) 전송
+ * - 연결당 전송은 한 번에 하나만: 느린 클라이언트는 그 주기를 건너뛰고 다음 주기에 누적 delta 로 받음
+ *   (max-skipped-ticks 넘게 밀리면 연결 종료)
+ * - 인스턴스당 구독자 수 상한 (넘으면 503)
+ */
+@Slf4j
+@Component
+public class ClickStreamHub {
+
+    private final PostService postService;
+    private final int maxSubscribers;
+    private final long timeoutMs;
+    private final int maxSkippedTicks;
+    private final long heartbeatMs;
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger count = new AtomicInteger();
+
+    // 전송은 가상 스레드에서 (느린 소켓 쓰기가 스케줄러 스레드를 막지 않도록)
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Counter pushes;
+    private final Counter skipped;
+
+    public ClickStreamHub(PostService postService,
+                          MeterRegistry meterRegistry,
+                          @Value("${writeflow.stream.max-subscribers:5000}") int maxSubscribers,
+                          @Value("${writeflow.stream.timeout-ms:1800000}") long timeoutMs,
+                          @Value("${writeflow.stream.max-skipped-ticks:40}") int maxSkippedTicks,
+                          @Value("${writeflow.stream.heartbeat-ms:15000}") long heartbeatMs) {
+        this.postService = postService;
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMs = timeoutMs;
+        this.maxSkippedTicks = maxSkippedTicks;
+        this.heartbeatMs = heartbeatMs;
+
+        Gauge.builder("writeflow.stream.subscribers", count, AtomicInteger::get)
+                .register(meterRegistry);
+        this.pushes = Counter.builder("writeflow.stream.pushes")
+                .description("Delta events sent to stream subscribers")
+                .register(meterRegistry);
+        this.skipped = Counter.builder("writeflow.stream.skipped")
+                .description("Ticks skipped because the previous send to a subscriber was still in progress")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 구독 시작: 현재 버튼 상태 전체(snapshot)를 먼저 보내고 이후 delta 전송
+     * - 구독자를 먼저 등록한 뒤 snapshot 을 읽음 (그 사이 커밋된 클릭은 dirty 로 남아 다음 주기 delta 로 전송)
+     * - snapshot 을 보내기 전까지는 sending 을 잡아 둬서 delta 가 snapshot 을 앞지르지 않음
+     * - 글이 없거나 숨김이면 PostService 예외 그대로
+     */
+    public SseEmitter subscribe(Long postId) {
+        if (count.incrementAndGet() > maxSubscribers) {
+            count.decrementAndGet();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "실시간 구독자가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber sub = new Subscriber(postId, emitter);
+        sub.sending.set(true);
+        emitter.onCompletion(() -> remove(sub));
+        emitter.onTimeout(() -> remove(sub));
+        emitter.onError(e -> remove(sub));
+        subscribers.compute(postId, (k, subs) -> {
+            Set<Subscriber> target = (subs != null) ? subs : ConcurrentHashMap.newKeySet();
+            target.add(sub);
+            return target;
+        });
+
+        List<ButtonStatDto> current;
+        try {
+            current = postService.getPost(postId).buttons();
+        } catch (RuntimeException e) {
+            remove(sub);
+            throw e;
+        }
+        send(sub, current, "snapshot");
+        return emitter;
+    }
+
+    @TransactionalEventListener
+    public void onButtonClicked(ButtonClicked event) {
+        if (subscribers.containsKey(event.postId())) {
+            dirty.add(event.postId());
+        }
+    }
+
+    // 숨김된 글의 스트림은 종료
+    @TransactionalEventListener
+    public void onPostHidden(PostHidden event) {
+        Set<Subscriber> subs = subscribers.get(event.postId());
+        if (subs != null) {
+            List.copyOf(subs).forEach(this::close);
+        }
+    }
+
+    // 묶음 주기마다 바뀐 글만 한 번에 조회해서 구독자별 delta 전송
+    @Scheduled(fixedDelayString = "${writeflow.stream.coalesce-ms:250}")
+    public void tick() {
+        List<Long> postIds = new ArrayList<>(dirty);
+        postIds.forEach(dirty::remove);
+
+        if (!postIds.isEmpty()) {
+            Map<Long, List<ButtonStatDto>> stats = postService.getButtonStats(postIds);
+            for (Long postId : postIds) {
+                List<ButtonStatDto> latest = stats.get(postId);
+                Set<Subscriber> subs = subscribers.get(postId);
+                if (latest == null || subs == null) {
+                    continue;
+                }
+                subs.forEach(s -> dispatch(s, latest, "delta"));
+            }
+        }
+
+        heartbeat();
+    }
+
+    // 오래 조용한 연결에 주석 이벤트를 보내서 끊긴 연결 정리
+    private void heartbeat() {
+        long now = System.currentTimeMillis();
+        subscribers.values().forEach(subs -> subs.forEach(s -> {
+            if (now - s.lastSentAt > heartbeatMs && s.sending.compareAndSet(false, true)) {
+                sender.execute(() -> {
+                    try {
+                        s.emitter.send(SseEmitter.event().comment("ping"));
+                        s.lastSentAt = System.currentTimeMillis();
+                    } catch (IOException | IllegalStateException e) {
+                        s.emitter.completeWithError(e);
+                    } finally {
+                        s.sending.set(false);
+                    }
+                });
+            }
+        }));
+    }
+
+    private void dispatch(Subscriber sub, List<ButtonStatDto> latest, String eventName) {
+        if (!sub.sending.compareAndSet(false, true)) {
+            // 이전 전송이 아직 진행 중 → 이번 주기는 건너뜀 (다음 주기에 누적 delta)
+            skipped.increment();
+            if (++sub.skippedTicks > maxSkippedTicks) {
+                log.debug("closing slow stream subscriber for post {}", sub.postId);
+                close(sub);
+            } else {
+                dirty.add(sub.postId);
+            }
+            return;
+        }
+        sub.skippedTicks = 0;
+        send(sub, latest, eventName);
+    }
+
+    // sending 을 잡은 상태에서 호출 (전송이 끝나면 놓음)
+    private void send(Subscriber sub, List<ButtonStatDto> latest, String eventName) {
+        sender.execute(() -> {
+            try {
+                List<ButtonStatDto> changed = sub.diff(latest);
+                if (!changed.isEmpty()) {
+                    sub.emitter.send(SseEmitter.event().name(eventName).data(changed));
+                    sub.remember(changed);
+                    sub.lastSentAt = System.currentTimeMillis();
+                    pushes.increment();
+                }
+            } catch (IOException | IllegalStateException e) {
+                sub.emitter.completeWithError(e);
+            } finally {
+                sub.sending.set(false);
+            }
+        });
+    }
+
+    // 구독자 수는 여기서 바로 반영 (complete() 후 onCompletion 콜백은 늦게 오거나 오지 않을 수 있음)
+    private void close(Subscriber sub) {
+        remove(sub);
+        sub.emitter.complete();
+    }
+
+    // 여러 번 불려도 구독자 수는 한 번만 감소 (등록과 같은 키 단위 compute 라서 빈 집합 제거와 새 등록이 엇갈리지 않음)
+    private void remove(Subscriber sub) {
+        AtomicBoolean removed = new AtomicBoolean();
+        subscribers.computeIfPresent(sub.postId, (k, subs) -> {
+            removed.set(subs.remove(sub));
+            return subs.isEmpty() ? null : subs;
+        });
+        if (removed.get()) {
+            count.decrementAndGet();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(subs -> subs.forEach(s -> s.emitter.complete()));
+        sender.shutdown();
+    }
+
+    private static final class Subscriber {
+
+        private final Long postId;
+        private final SseEmitter emitter;
+        private final AtomicBoolean sending = new AtomicBoolean();
+
+        // buttonType → 마지막으로 보낸 clickCount (sending 을 잡은 스레드만 접근)
+        private final Map<String, Integer> lastSent = new HashMap<>();
+        private volatile long lastSentAt = System.currentTimeMillis();
+        private int skippedTicks;
+
+        Subscriber(Long postId, SseEmitter emitter) {
+            this.postId = postId;
+            this.emitter = emitter;
+        }
+
+        List<ButtonStatDto> diff(List<ButtonStatDto> latest) {
+            return latest.stream()
+                    .filter(b -> !Integer.valueOf(b.clickCount()).equals(lastSent.get(b.buttonType())))
+                    .toList();
+        }
+
+        void remember(List<ButtonStatDto> sent) {
+            sent.forEach(b -> lastSent.put(b.buttonType(), b.clickCount()));
+        }
+    }
+}
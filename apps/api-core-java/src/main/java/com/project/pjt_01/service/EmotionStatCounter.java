@@ -0,0 +1,78 @@
+package com.project.pjt_01.service;
+
+import com.project.pjt_01.domain.Emotion;
+import com.project.pjt_01.event.PostEvents.PostCreated;
+import com.project.pjt_01.event.PostEvents.PostHidden;
+import com.project.pjt_01.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 감정별 공개 글 수 카운터
+ * - 작성 / 숨김 이벤트(커밋 후)로 증감
+ * - 주기적으로 DB group by 결과로 덮어써서 오차(다른 인스턴스의 쓰기 등)를 바로잡음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmotionStatCounter {
+
+    private final PostRepository postRepository;
+
+    // Emotion.ordinal() 인덱스
+    private final AtomicLongArray counts = new AtomicLongArray(Emotion.values().length);
+
+    private volatile boolean initialized = false;
+
+    @TransactionalEventListener
+    public void onPostCreated(PostCreated event) {
+        counts.incrementAndGet(event.emotion().ordinal());
+    }
+
+    @TransactionalEventListener
+    public void onPostHidden(PostHidden event) {
+        counts.decrementAndGet(event.emotion().ordinal());
+    }
+
+    // 기동 직후 + 주기적 재동기화
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            fixedDelayString = "${writeflow.emotion-stats.reconcile-interval-ms:300000}",
+            initialDelayString = "${writeflow.emotion-stats.reconcile-interval-ms:300000}"
+    )
+    public void reconcile() {
+        long[] fresh = new long[Emotion.values().length];
+        for (Object[] row : postRepository.countVisibleGroupByEmotion()) {
+            Emotion emotion = (Emotion) row[0];
+            fresh[emotion.ordinal()] = ((Number) row[1]).longValue();
+        }
+
+        for (int i = 0; i < fresh.length; i++) {
+            long before = counts.getAndSet(i, fresh[i]);
+            if (initialized && before != fresh[i]) {
+                log.debug("emotion stat drift corrected: {} {} -> {}", Emotion.values()[i], before, fresh[i]);
+            }
+        }
+        initialized = true;
+    }
+
+    // 감정별 개수 스냅샷 (Emotion.ordinal() 순서)
+    public long[] snapshot() {
+        if (!initialized) {
+            reconcile();
+        }
+        long[] result = new long[counts.length()];
+        for (int i = 0; i < result.length; i++) {
+            // 재동기화 사이의 일시적인 음수는 0으로 보정
+            result[i] = Math.max(0L, counts.get(i));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,105 @@
+package com.project.pjt_01.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.pjt_01.domain.Emotion;
+import com.project.pjt_01.dto.post.PostDtos.PostListResponse;
+import com.project.pjt_01.event.PostEvents.PostCreated;
+import com.project.pjt_01.event.PostEvents.PostHidden;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 홈 피드 앞쪽 페이지 캐시 (감정별 + 전체)
+ * - PostService.getPosts 결과를 (감정, page, size) 단위로 보관 → 히트면 DB 커넥션도 안 잡음
+ * - 글 작성 / 숨김(삭제, 신고 누적)은 커밋 후 해당 감정 + 전체 피드를 바로 무효화
+ * - 버튼 클릭 수는 무효화하지 않고 TTL(counter-staleness-ms) 만큼만 늦게 보이는 것을 허용
+ * - 항목마다 조회 전에 읽은 피드 버전을 같이 보관 → ETag 는 본문을 만든 시점 버전 기준
+ * - 히트/미스는 cache.gets{cache=feed, result=hit|miss} 로 노출
+ */
+@Component
+public class FeedCache {
+
+    private final PostService postService;
+    private final ResourceVersions resourceVersions;
+    private final boolean enabled;
+    private final int pages;
+    private final int maxSize;
+    private final Cache<FeedKey, FeedPage> cache;
+
+    // 무효화 세대 (조회 도중 무효화가 끼어들면 오래된 결과를 다시 넣지 않도록)
+    private final AtomicLong generation = new AtomicLong();
+
+    public FeedCache(PostService postService,
+                     ResourceVersions resourceVersions,
+                     MeterRegistry meterRegistry,
+                     @Value("${writeflow.feed-cache.enabled:true}") boolean enabled,
+                     @Value("${writeflow.feed-cache.pages:1}") int pages,
+                     @Value("${writeflow.feed-cache.max-page-size:50}") int maxSize,
+                     @Value("${writeflow.feed-cache.counter-staleness-ms:2000}") long stalenessMillis) {
+        this.postService = postService;
+        this.resourceVersions = resourceVersions;
+        this.enabled = enabled;
+        this.pages = pages;
+        this.maxSize = maxSize;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(256)
+                .expireAfterWrite(Duration.ofMillis(stalenessMillis))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "feed");
+    }
+
+    public FeedPage getPosts(String emotionValue, Pageable pageable) {
+        // 조회 전에 읽음 → 본문은 항상 이 버전 이후 상태
+        long version = resourceVersions.feedVersion(emotionValue);
+        if (!enabled || pageable.getPageNumber() >= pages || pageable.getPageSize() > maxSize) {
+            return new FeedPage(postService.getPosts(emotionValue, pageable), version);
+        }
+
+        Emotion emotion = (emotionValue == null || emotionValue.isBlank())
+                ? null
+                : Emotion.from(emotionValue);
+        FeedKey key = new FeedKey(emotion, pageable.getPageNumber(), pageable.getPageSize());
+
+        FeedPage cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long before = generation.get();
+        FeedPage fresh = new FeedPage(postService.getPosts(emotionValue, pageable), version);
+        if (generation.get() == before) {
+            cache.put(key, fresh);
+        }
+        return fresh;
+    }
+
+    @TransactionalEventListener
+    public void onPostCreated(PostCreated event) {
+        evict(event.emotion());
+    }
+
+    @TransactionalEventListener
+    public void onPostHidden(PostHidden event) {
+        evict(event.emotion());
+    }
+
+    // 해당 감정 피드 + 전체 피드(emotion == null) 무효화
+    private void evict(Emotion emotion) {
+        generation.incrementAndGet();
+        cache.asMap().keySet().removeIf(k -> k.emotion() == null || k.emotion() == emotion);
+    }
+
+    // version = 본문을 조회하기 전에 읽은 ResourceVersions 피드 버전
+    public record FeedPage(PostListResponse response, long version) {}
+
+    private record FeedKey(Emotion emotion, int page, int size) {}
+}
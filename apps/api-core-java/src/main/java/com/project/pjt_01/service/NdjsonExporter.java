@@ -0,0 +1,172 @@
+package com.project.pjt_01.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Locale;
+
+/**
+ * 분석용 전체 덤프 (NDJSON: 한 줄 = 한 행)
+ * - forward-only / read-only 커서 + fetch-size 로 읽으면서 바로 JSON 으로 씀
+ *   (엔티티 / 결과 목록을 만들지 않아서 행 수와 무관하게 힙 사용량 일정)
+ * - PostgreSQL 은 autocommit 이 꺼져 있어야 fetch-size 커서가 동작하므로 읽기 전용 트랜잭션 안에서 실행
+ *   (DB 라우팅이 켜져 있으면 복제본에서 읽음)
+ * - 컬럼 타입별로 ResultSet 에서 직접 꺼내 씀 (숫자 / boolean / 시각은 ISO 문자열 / 나머지 문자열)
+ */
+@Slf4j
+@Component
+public class NdjsonExporter {
+
+    public enum Table {
+        POSTS("SELECT id, author_id, emotion, content, llm_reply, hidden, reported_count, created_at, updated_at "
+                + "FROM posts ORDER BY id"),
+        POST_BUTTON_STATS("SELECT id, post_id, button_type, button_label, click_count "
+                + "FROM post_button_stats ORDER BY id"),
+        BUTTON_CLICKS("SELECT id, post_id, user_id, button_type FROM button_clicks ORDER BY id");
+
+        private final String sql;
+
+        Table(String sql) {
+            this.sql = sql;
+        }
+
+        // URL 경로용 이름 (posts, post_button_stats, button_clicks)
+        public String fileName() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+
+        public static Table from(String value) {
+            for (Table t : values()) {
+                if (t.name().equalsIgnoreCase(value) || t.fileName().replace('_', '-').equalsIgnoreCase(value)) {
+                    return t;
+                }
+            }
+            throw new IllegalArgumentException("지원하지 않는 테이블입니다: " + value);
+        }
+    }
+
+    private static final int FLUSH_EVERY_ROWS = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+
+    public NdjsonExporter(JdbcTemplate jdbcTemplate,
+                          PlatformTransactionManager transactionManager,
+                          ObjectMapper objectMapper,
+                          @Value("${writeflow.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * 테이블 전체를 out 에 NDJSON 으로 씀 (out 은 닫지 않음)
+     * @return 내보낸 행 수
+     */
+    public long export(Table table, OutputStream out) {
+        long started = System.nanoTime();
+        Long rows = readOnlyTransaction.execute(status -> jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(table.sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            return ps;
+        }, rs -> {
+            try {
+                return writeRows(rs, out);
+            } catch (IOException e) {
+                // 클라이언트 연결 끊김 등 → 커서 닫고 트랜잭션 종료
+                throw new UncheckedIOException(e);
+            }
+        }));
+        long count = (rows == null) ? 0L : rows;
+        log.info("exported {} rows from {} in {} ms", count, table.fileName(), (System.nanoTime() - started) / 1_000_000);
+        return count;
+    }
+
+    private long writeRows(ResultSet rs, OutputStream out) throws SQLException, IOException {
+        ResultSetMetaData meta = rs.getMetaData();
+        int columns = meta.getColumnCount();
+        String[] names = new String[columns + 1];
+        int[] types = new int[columns + 1];
+        for (int i = 1; i <= columns; i++) {
+            names[i] = meta.getColumnLabel(i).toLowerCase(Locale.ROOT);
+            types[i] = meta.getColumnType(i);
+        }
+
+        long count = 0;
+        try (JsonGenerator json = objectMapper.getFactory().createGenerator(out)) {
+            json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // 루트 값 사이 기본 구분자(공백) 대신 직접 쓰는 줄바꿈만
+            json.setRootValueSeparator(null);
+            while (rs.next()) {
+                json.writeStartObject();
+                for (int i = 1; i <= columns; i++) {
+                    json.writeFieldName(names[i]);
+                    writeValue(json, rs, i, types[i]);
+                }
+                json.writeEndObject();
+                json.writeRaw('\n');
+
+                if (++count % FLUSH_EVERY_ROWS == 0) {
+                    json.flush();
+                }
+            }
+        }
+        return count;
+    }
+
+    private static void writeValue(JsonGenerator json, ResultSet rs, int column, int type) throws SQLException, IOException {
+        switch (type) {
+            case Types.BIGINT, Types.INTEGER, Types.SMALLINT, Types.TINYINT -> {
+                long value = rs.getLong(column);
+                if (rs.wasNull()) {
+                    json.writeNull();
+                } else {
+                    json.writeNumber(value);
+                }
+            }
+            case Types.BOOLEAN, Types.BIT -> {
+                boolean value = rs.getBoolean(column);
+                if (rs.wasNull()) {
+                    json.writeNull();
+                } else {
+                    json.writeBoolean(value);
+                }
+            }
+            case Types.TIMESTAMP, Types.TIMESTAMP_WITH_TIMEZONE -> {
+                Timestamp value = rs.getTimestamp(column);
+                if (value == null) {
+                    json.writeNull();
+                } else {
+                    json.writeString(value.toLocalDateTime().toString());
+                }
+            }
+            default -> {
+                String value = rs.getString(column);
+                if (value == null) {
+                    json.writeNull();
+                } else {
+                    json.writeString(value);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.project.pjt_01.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.pjt_01.dto.post.PostDtos.PostListResponse;
+import com.project.pjt_01.dto.post.PostDtos.PostResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * PostResponse 직렬화 결과(UTF-8 JSON 바이트) 캐시
+ * - 키 = (postId, ResourceVersions 글 버전) → 클릭 / 신고 / 숨김 / 답글 반영 시 자동으로 새 키
+ * - 단건 조회는 캐시된 바이트를 그대로 응답 (선택적으로 gzip 본도 캐시)
+ * - 피드는 글별 조각을 이어 붙이고 page / size 등 나머지 필드만 새로 직렬화
+ *   피드 항목은 FeedCache TTL 만큼 오래됐을 수 있어서 조각을 읽기만 함 (채우는 건 단건 조회만)
+ * - 총 바이트 기준 크기 제한, 다른 인스턴스 변경은 ttl-ms 안에 반영
+ * - 히트/미스는 cache.gets{cache=post-json}
+ */
+@Component
+public class PostJsonCache {
+
+    private static final byte[] ITEMS_OPEN = "{\"items\":[".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ITEMS_CLOSE = "],".getBytes(StandardCharsets.UTF_8);
+
+    private final ObjectMapper objectMapper;
+    private final ResourceVersions resourceVersions;
+    private final boolean enabled;
+    private final Cache<Key, byte[]> cache;
+
+    public PostJsonCache(ObjectMapper objectMapper,
+                         ResourceVersions resourceVersions,
+                         MeterRegistry meterRegistry,
+                         @Value("${writeflow.json-cache.enabled:true}") boolean enabled,
+                         @Value("${writeflow.json-cache.max-bytes:67108864}") long maxBytes,
+                         @Value("${writeflow.json-cache.ttl-ms:5000}") long ttlMs) {
+        this.objectMapper = objectMapper;
+        this.resourceVersions = resourceVersions;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Key k, byte[] v) -> v.length)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "post-json");
+    }
+
+    /**
+     * 단건 응답 바이트
+     * - 버전을 조회 전에 읽으므로, 조회 도중 바뀌어도 다음 요청은 새 버전 키로 다시 만듦
+     */
+    public byte[] post(Long postId, Supplier<PostResponse> loader) {
+        if (!enabled) {
+            return write(loader.get());
+        }
+        long version = resourceVersions.postVersion(postId);
+        return cache.get(new Key(postId, version, false), k -> write(loader.get()));
+    }
+
+    public byte[] postGzip(Long postId, Supplier<PostResponse> loader) {
+        if (!enabled) {
+            return gzip(write(loader.get()));
+        }
+        long version = resourceVersions.postVersion(postId);
+        byte[] plain = cache.get(new Key(postId, version, false), k -> write(loader.get()));
+        return cache.get(new Key(postId, version, true), k -> gzip(plain));
+    }
+
+    // 피드 응답 바이트: 글별 캐시 조각 + 나머지 필드
+    // - 현재 버전 조각이 있으면 그대로 (항목보다 같거나 새로움), 없으면 항목을 직렬화만 하고 캐시에 넣지 않음
+    //   (클릭 전 항목이 클릭 후 버전 키로 들어가면 단건 조회가 새 ETag 로 옛 값을 응답하게 됨)
+    public byte[] feed(PostListResponse response) {
+        if (!enabled) {
+            return write(response);
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(1024 * Math.max(1, response.items().size()));
+        out.writeBytes(ITEMS_OPEN);
+        List<PostResponse> items = response.items();
+        for (int i = 0; i < items.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            PostResponse item = items.get(i);
+            byte[] fragment = cache.getIfPresent(new Key(item.id(), resourceVersions.postVersion(item.id()), false));
+            out.writeBytes((fragment != null) ? fragment : write(item));
+        }
+        out.writeBytes(ITEMS_CLOSE);
+
+        Map<String, Object> rest = new LinkedHashMap<>();
+        rest.put("page", response.page());
+        rest.put("size", response.size());
+        rest.put("totalElements", response.totalElements());
+        rest.put("totalPages", response.totalPages());
+        rest.put("nextCursor", response.nextCursor());
+        byte[] tail = write(rest);
+        out.write(tail, 1, tail.length - 1);   // 앞의 '{' 제외
+        return out.toByteArray();
+    }
+
+    private byte[] write(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("JSON 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 2 + 32);
+        try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+            gz.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private record Key(Long postId, long version, boolean gzip) {}
+}
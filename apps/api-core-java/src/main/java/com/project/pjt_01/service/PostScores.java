@@ -0,0 +1,141 @@
+package com.project.pjt_01.service;
+
+/**
+ * postId → (점수, 감정) 원시 타입 해시 맵 (트렌딩 점수용)
+ * - open addressing + 선형 탐사, 키 0 = 빈 칸 (글 ID는 항상 양수)
+ * - 삭제는 backward shift 라서 tombstone 이 쌓이지 않음
+ * - 동기화 없음: 사용하는 쪽에서 락으로 보호
+ */
+final class PostScores {
+
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] keys;
+    private double[] scores;
+    private byte[] emotions;
+    private int size;
+    private int mask;
+
+    PostScores(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        allocate(capacity);
+    }
+
+    int size() {
+        return size;
+    }
+
+    // 점수를 더하고 더한 뒤 점수를 반환
+    double add(long postId, int emotionOrdinal, double delta) {
+        int slot = find(postId);
+        if (keys[slot] == postId) {
+            scores[slot] += delta;
+            return scores[slot];
+        }
+        keys[slot] = postId;
+        scores[slot] = delta;
+        emotions[slot] = (byte) emotionOrdinal;
+        if (++size > keys.length * LOAD_FACTOR) {
+            resize(keys.length << 1);
+        }
+        return delta;
+    }
+
+    boolean contains(long postId) {
+        return keys[find(postId)] == postId;
+    }
+
+    boolean remove(long postId) {
+        int slot = find(postId);
+        if (keys[slot] != postId) {
+            return false;
+        }
+        removeAt(slot);
+        return true;
+    }
+
+    // 전체 점수에 같은 배수를 곱하고, min 미만으로 떨어진 항목은 제거
+    void scale(double factor, double min) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                scores[i] *= factor;
+            }
+        }
+        for (int i = 0; i < keys.length; ) {
+            if (keys[i] != 0 && scores[i] < min) {
+                removeAt(i);   // 뒤의 항목이 i 로 당겨질 수 있으므로 같은 칸 다시 확인
+            } else {
+                i++;
+            }
+        }
+    }
+
+    void forEach(Visitor visitor) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                visitor.visit(keys[i], emotions[i], scores[i]);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface Visitor {
+        void visit(long postId, int emotionOrdinal, double score);
+    }
+
+    private int find(long postId) {
+        int slot = hash(postId) & mask;
+        while (keys[slot] != 0 && keys[slot] != postId) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void removeAt(int slot) {
+        // backward shift: 지운 칸 뒤의 같은 클러스터 항목을 제자리에 가깝게 당김
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        while (keys[next] != 0) {
+            int home = hash(keys[next]) & mask;
+            // home 이 (gap, next] 구간 밖이면 gap 으로 옮겨도 탐색 가능
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                scores[gap] = scores[next];
+                emotions[gap] = emotions[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[gap] = 0;
+        scores[gap] = 0.0;
+        size--;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        double[] oldScores = scores;
+        byte[] oldEmotions = emotions;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int slot = find(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                scores[slot] = oldScores[i];
+                emotions[slot] = oldEmotions[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        scores = new double[capacity];
+        emotions = new byte[capacity];
+        mask = capacity - 1;
+    }
+
+    // 시간순 ID 의 하위 비트(노드 / 순번)가 몰려 있어서 섞어서 사용
+    static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
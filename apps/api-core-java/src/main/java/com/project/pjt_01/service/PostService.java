@@ -1,21 +1,38 @@
 package com.project.pjt_01.service;
 
 import com.project.pjt_01.domain.*;
+import com.project.pjt_01.dto.post.FeedCursor;
 import com.project.pjt_01.dto.post.PostDtos.*;
+import com.project.pjt_01.event.PostEvents.ButtonClicked;
+import com.project.pjt_01.event.PostEvents.PostCreated;
+import com.project.pjt_01.event.PostEvents.PostHidden;
+import com.project.pjt_01.event.PostEvents.PostReported;
+import io.micrometer.core.annotation.Timed;
 import com.project.pjt_01.repository.*;
+import com.project.pjt_01.repository.ButtonClickJdbcRepository.ClickResult;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
+@Timed(value = "writeflow.post.service", percentiles = {0.5, 0.95, 0.99}, histogram = true)
 public class PostService {
 
     // 신고 임계치 (15회 이상이면 숨김)
@@ -26,9 +43,27 @@ public class PostService {
     private final PostButtonStatRepository postButtonStatRepository;
     private final ButtonClickRepository buttonClickRepository;
     private final PostReportRepository postReportRepository;
-
-    // 감정별 메시지 매핑
-    private String getEmotionMessage(Emotion emotion, MessageType type) {
+    private final EmotionStatCounter emotionStatCounter;
+    private final ClickAggregator clickAggregator;
+    private final TimelineIndex timelineIndex;
+    private final SearchIndex searchIndex;
+    private final TrendingIndex trendingIndex;
+    private final StatRollups statRollups;
+    private final ButtonClickJdbcRepository buttonClickJdbcRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${writeflow.clicks.atomic.enabled:true}")
+    private boolean atomicClick;
+
+    @Value("${writeflow.rollup.max-range-days:400}")
+    private int maxStatRangeDays;
+
+    // 피드 한 번에 조회할 수 있는 최대 글 수 (page / 커서 모드 공통, 넘으면 이 값으로 줄임)
+    @Value("${writeflow.feed.max-page-size:100}")
+    private int maxFeedPageSize;
+
+    // 감정별 메시지 매핑 (상태 없는 순수 함수 - JMH 벤치마크에서 직접 호출하므로 package-private)
+    static String getEmotionMessage(Emotion emotion, MessageType type) {
         return switch (emotion) {
             case JOY -> switch (type) {
                 case ALREADY_CLICKED -> "이미 공감을 표했어요 💛";
@@ -68,7 +103,7 @@ public class PostService {
         };
     }
 
-    private enum MessageType {
+    enum MessageType {
         ALREADY_CLICKED,
         ALREADY_REPORTED,
         HIDDEN_POST
@@ -81,6 +116,7 @@ public class PostService {
 
         Emotion emotion = Emotion.from(req.emotion());
         Post post = new Post(author, req.content(), emotion);
+        // ID 는 앱에서 발급되므로 여기서는 INSERT 가 나가지 않음 (커밋 시 버튼과 함께 배치 insert)
         postRepository.save(post);
 
         // -----------------------------
@@ -130,8 +166,10 @@ public class PostService {
             post.addButtonStat(stat);
         }
 
-        List<PostButtonStat> stats = postButtonStatRepository.findByPost(post);
-        return PostResponse.from(post, stats);
+        eventPublisher.publishEvent(new PostCreated(post.getId(), emotion, post.getContent(), post.getCreatedAt()));
+
+        // 방금 만든 버튼 목록을 그대로 사용 (다시 조회하지 않음)
+        return PostResponse.of(post, toButtonDtos(post.getButtonStats()));
     }
 
     // 글 단건 조회 (숨김 글이면 예외)
@@ -146,33 +184,154 @@ public class PostService {
         }
 
         List<PostButtonStat> stats = postButtonStatRepository.findByPost(post);
-        return PostResponse.from(post, stats);
+        return PostResponse.of(post, toButtonDtos(stats));
     }
 
     // 전체 글 목록 (무한스크롤용) - 숨김 글 제외
     @Transactional(readOnly = true)
     public PostListResponse getPosts(String emotionValue, Pageable pageable) {
+        if (pageable.getPageSize() > maxFeedPageSize) {
+            pageable = PageRequest.of(pageable.getPageNumber(), maxFeedPageSize, pageable.getSort());
+        }
         Page<Post> page;
-        if (emotionValue == null || emotionValue.isBlank()) {
+        if (timelineIndex.isReady()) {
+            page = getPostsFromIndex(emotionValue, pageable);
+        } else if (emotionValue == null || emotionValue.isBlank()) {
             page = postRepository.findByHiddenFalseOrderByCreatedAtDesc(pageable);
         } else {
             Emotion emotion = Emotion.from(emotionValue);
             page = postRepository.findByHiddenFalseAndEmotionOrderByCreatedAtDesc(emotion, pageable);
         }
 
-        List<PostResponse> items = page.getContent().stream()
-                .map(p -> PostResponse.from(p, postButtonStatRepository.findByPost(p)))
-                .toList();
+        List<PostResponse> items = toResponses(page.getContent());
 
         return new PostListResponse(
                 items,
                 page.getNumber(),
                 page.getSize(),
                 page.getTotalElements(),
-                page.getTotalPages()
+                page.getTotalPages(),
+                nextCursorOf(page.getContent(), page.hasNext())
         );
     }
 
+    // 타임라인 인덱스에서 ID만 잘라오고 그 글들만 IN 조회 (ORDER BY / count 쿼리 없음)
+    private Page<Post> getPostsFromIndex(String emotionValue, Pageable pageable) {
+        Emotion emotion = (emotionValue == null || emotionValue.isBlank())
+                ? null
+                : Emotion.from(emotionValue);
+
+        TimelineIndex.Slice slice = timelineIndex.page(emotion, pageable.getPageNumber(), pageable.getPageSize());
+        if (slice.ids().length == 0) {
+            return new PageImpl<>(List.of(), pageable, slice.total());
+        }
+
+        List<Long> ids = Arrays.stream(slice.ids()).boxed().toList();
+        return new PageImpl<>(findVisibleInOrder(ids), pageable, slice.total());
+    }
+
+    // ID 목록 순서 그대로 글 조회 (IN 쿼리 한 번), 그 사이 숨김된 글은 제외
+    private List<Post> findVisibleInOrder(List<Long> ids) {
+        Map<Long, Post> byId = postRepository.findByIdIn(ids).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+
+        return ids.stream()
+                .map(byId::get)
+                .filter(p -> p != null && !p.isHidden())
+                .toList();
+    }
+
+    // 본문 검색 - 매칭 / 정렬은 메모리 색인에서, DB는 결과 한 페이지 조회만
+    @Transactional(readOnly = true)
+    public PostListResponse searchPosts(String query, String emotionValue, int page, int size) {
+        Emotion emotion = (emotionValue == null || emotionValue.isBlank())
+                ? null
+                : Emotion.from(emotionValue);
+
+        if (page < 0 || size < 1) {
+            throw new IllegalArgumentException("잘못된 페이지 요청입니다.");
+        }
+
+        List<Long> hits = searchIndex.search(query, emotion);
+
+        int from = Math.min(hits.size(), page * size);
+        int to = Math.min(hits.size(), from + size);
+        List<Post> posts = findVisibleInOrder(hits.subList(from, to));
+
+        return new PostListResponse(
+                toResponses(posts),
+                page,
+                size,
+                hits.size(),
+                (hits.size() + size - 1) / size,
+                null
+        );
+    }
+
+    // 트렌딩 글 (최근 클릭 감쇠 점수순) - 순위는 메모리 인덱스, DB는 상위 size 개 IN 조회만
+    @Transactional(readOnly = true)
+    public PostListResponse getTrendingPosts(String emotionValue, int size) {
+        Emotion emotion = (emotionValue == null || emotionValue.isBlank())
+                ? null
+                : Emotion.from(emotionValue);
+
+        if (size < 1 || size > trendingIndex.maxSize()) {
+            throw new IllegalArgumentException("size 는 1~" + trendingIndex.maxSize() + " 사이여야 합니다.");
+        }
+        if (!trendingIndex.isReady()) {
+            return new PostListResponse(List.of(), 0, size, 0, 0, null);
+        }
+
+        List<Long> ids = Arrays.stream(trendingIndex.top(emotion, size)).boxed().toList();
+        List<Post> posts = findVisibleInOrder(ids);
+
+        return new PostListResponse(toResponses(posts), 0, size, posts.size(), 1, null);
+    }
+
+    // 전체 글 목록 (커서 모드) - count 쿼리 / OFFSET 없이 커서 이후 글만 조회
+    @Transactional(readOnly = true)
+    public PostListResponse getPostsByCursor(String emotionValue, String cursorValue, int size) {
+        FeedCursor cursor = FeedCursor.decode(cursorValue);
+        Emotion emotion = (emotionValue == null || emotionValue.isBlank())
+                ? null
+                : Emotion.from(emotionValue);
+
+        size = Math.max(1, Math.min(size, maxFeedPageSize));
+        // 다음 페이지 존재 여부 확인용으로 1개 더 조회
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<Post> posts;
+        if (cursor == null) {
+            posts = (emotion == null)
+                    ? postRepository.findByHiddenFalseOrderByCreatedAtDescIdDesc(limit)
+                    : postRepository.findByHiddenFalseAndEmotionOrderByCreatedAtDescIdDesc(emotion, limit);
+        } else {
+            posts = (emotion == null)
+                    ? postRepository.findVisibleBefore(cursor.createdAt(), cursor.id(), limit)
+                    : postRepository.findVisibleByEmotionBefore(emotion, cursor.createdAt(), cursor.id(), limit);
+        }
+
+        boolean hasNext = posts.size() > size;
+        if (hasNext) {
+            posts = posts.subList(0, size);
+        }
+
+        return new PostListResponse(
+                toResponses(posts),
+                0,
+                size,
+                -1L,
+                -1,
+                nextCursorOf(posts, hasNext)
+        );
+    }
+
+    private String nextCursorOf(List<Post> posts, boolean hasNext) {
+        if (!hasNext || posts.isEmpty()) {
+            return null;
+        }
+        return FeedCursor.of(posts.get(posts.size() - 1)).encode();
+    }
+
     // 내 글 목록 (숨김 여부와 상관없이 내가 쓴 글 전체)
     @Transactional(readOnly = true)
     public PostListResponse getMyPosts(Long userId, String emotionValue, Pageable pageable) {
@@ -187,16 +346,15 @@ public class PostService {
             page = postRepository.findByAuthorAndEmotionOrderByCreatedAtDesc(user, emotion, pageable);
         }
 
-        List<PostResponse> items = page.getContent().stream()
-                .map(p -> PostResponse.from(p, postButtonStatRepository.findByPost(p)))
-                .toList();
+        List<PostResponse> items = toResponses(page.getContent());
 
         return new PostListResponse(
                 items,
                 page.getNumber(),
                 page.getSize(),
                 page.getTotalElements(),
-                page.getTotalPages()
+                page.getTotalPages(),
+                null   // /api/posts/me 는 page 모드만 지원
         );
     }
 
@@ -209,11 +367,61 @@ public class PostService {
             throw new IllegalStateException("본인이 작성한 글만 삭제할 수 있습니다.");
         }
 
-        post.hide();
+        hide(post);
+    }
+
+    // 숨김 처리 + 이벤트 발행 (이미 숨김이면 아무것도 안 함)
+    private void hide(Post post) {
+        if (post.hide()) {
+            eventPublisher.publishEvent(new PostHidden(post.getId(), post.getEmotion()));
+        }
     }
 
     // 버튼 클릭 (한 유저당 한 글에 한 번만)
+    // - 기본: uk_click_post_user 제약 기반 원자적 처리 (동시 중복 클릭 경쟁 조건 없음)
+    // - writeflow.clicks.atomic.enabled=false 면 기존 엔티티 조회 방식
     public ButtonClickResponse clickButton(Long userId, Long postId, String buttonTypeStr) {
+        if (!atomicClick) {
+            return clickButtonWithEntities(userId, postId, buttonTypeStr);
+        }
+
+        ButtonType type = ButtonType.from(buttonTypeStr);
+
+        ClickResult result;
+        try {
+            result = buttonClickJdbcRepository.click(postId, userId, type, !clickAggregator.isEnabled());
+        } catch (DataIntegrityViolationException e) {
+            // 중복은 위에서 처리되므로 여기는 user_id FK 위반
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
+        }
+
+        // CLICKED: write-behind 모드의 메모리 증분은 커밋 후 ButtonClicked 로 ClickAggregator 가 쌓음
+        switch (result.status()) {
+            case DUPLICATE -> throw new IllegalStateException(
+                    getEmotionMessage(result.emotion(), MessageType.ALREADY_CLICKED));
+            case REJECTED -> throw rejectedClick(postId);
+            default -> {
+            }
+        }
+
+        eventPublisher.publishEvent(new ButtonClicked(postId, result.emotion(), type));
+
+        List<PostButtonStat> stats = postButtonStatRepository.findByPostIdIn(List.of(postId));
+        return new ButtonClickResponse(postId, type.name(), toButtonDtos(stats));
+    }
+
+    // 클릭이 거절된 이유 판별 (실패 경로에서만 조회)
+    private RuntimeException rejectedClick(Long postId) {
+        Post post = postRepository.findById(postId)
+                .orElseThrow(() -> new IllegalArgumentException("글을 찾을 수 없습니다."));
+
+        if (post.isHidden()) {
+            return new IllegalStateException(getEmotionMessage(post.getEmotion(), MessageType.HIDDEN_POST));
+        }
+        return new IllegalArgumentException("이 글에서 활성화되지 않은 버튼입니다.");
+    }
+
+    private ButtonClickResponse clickButtonWithEntities(Long userId, Long postId, String buttonTypeStr) {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new IllegalArgumentException("글을 찾을 수 없습니다."));
 
@@ -239,10 +447,15 @@ public class PostService {
         ButtonClick click = new ButtonClick(post, user, type);
         buttonClickRepository.save(click);
 
-        stat.increase();
+        // write-behind 모드: 행 잠금 없이 커밋 후 메모리에만 누적 (ButtonClicked), 주기적으로 배치 반영
+        if (!clickAggregator.isEnabled()) {
+            stat.increase();
+        }
+
+        eventPublisher.publishEvent(new ButtonClicked(post.getId(), post.getEmotion(), type));
 
         List<PostButtonStat> stats = postButtonStatRepository.findByPost(post);
-        var buttonDtos = stats.stream().map(ButtonStatDto::from).toList();
+        var buttonDtos = toButtonDtos(stats);
 
         return new ButtonClickResponse(post.getId(), type.name(), buttonDtos);
     }
@@ -264,40 +477,56 @@ public class PostService {
         postReportRepository.save(report);
 
         post.increaseReportCount();
+        eventPublisher.publishEvent(new PostReported(post.getId(), post.getEmotion()));
 
         long reportCount = postReportRepository.countByPost(post);
         if (reportCount >= REPORT_THRESHOLD) {
-            post.hide();
+            hide(post);
         }
     }
 
-    // 감정 비율 통계 (숨김되지 않은 글 기준)
+    // 여러 글의 버튼 집계 (실시간 스트림용, IN 쿼리 한 번)
     @Transactional(readOnly = true)
-    public List<EmotionStatResponse> getEmotionStats() {
-        List<Post> visiblePosts = postRepository.findAll().stream()
-                .filter(p -> !p.isHidden())
-                .toList();
-
-        long total = visiblePosts.size();
+    public Map<Long, List<ButtonStatDto>> getButtonStats(Collection<Long> postIds) {
+        return postButtonStatRepository.findByPostIdIn(postIds).stream()
+                .collect(Collectors.groupingBy(s -> s.getPost().getId()))
+                .entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> toButtonDtos(e.getValue())));
+    }
 
-        if (total == 0) {
-            return Arrays.stream(Emotion.values())
-                    .map(e -> new EmotionStatResponse(
-                            e.name(),
-                            e.getKoreanLabel(),
-                            0L,
-                            0.0
-                    ))
-                    .toList();
+    // 피드 한 페이지 조립: 버튼 집계는 IN 쿼리 한 번으로 가져와 메모리에서 글별로 묶음
+    private List<PostResponse> toResponses(List<Post> posts) {
+        if (posts.isEmpty()) {
+            return List.of();
         }
 
-        Map<Emotion, Long> counts = visiblePosts.stream()
-                .collect(Collectors.groupingBy(Post::getEmotion, Collectors.counting()));
+        List<Long> postIds = posts.stream().map(Post::getId).toList();
+        Map<Long, List<PostButtonStat>> statsByPost = postButtonStatRepository.findByPostIdIn(postIds).stream()
+                .collect(Collectors.groupingBy(s -> s.getPost().getId()));
+
+        return posts.stream()
+                .map(p -> PostResponse.of(p, toButtonDtos(statsByPost.getOrDefault(p.getId(), List.of()))))
+                .toList();
+    }
+
+    // 버튼 집계 DTO 변환 (write-behind 모드면 미반영 클릭 수 합산)
+    private List<ButtonStatDto> toButtonDtos(List<PostButtonStat> stats) {
+        return stats.stream()
+                .map(s -> ButtonStatDto.from(s, clickAggregator.pendingDelta(s.getPost().getId(), s.getButtonType())))
+                .toList();
+    }
+
+    // 감정 비율 통계 (숨김되지 않은 글 기준)
+    // - 메모리 카운터만 읽으므로 DB 커넥션도 잡지 않음
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<EmotionStatResponse> getEmotionStats() {
+        long[] counts = emotionStatCounter.snapshot();
+        long total = Arrays.stream(counts).sum();
 
         return Arrays.stream(Emotion.values())
                 .map(e -> {
-                    long count = counts.getOrDefault(e, 0L);
-                    double ratio = (double) count / total;
+                    long count = counts[e.ordinal()];
+                    double ratio = (total == 0) ? 0.0 : (double) count / total;
                     return new EmotionStatResponse(
                             e.name(),
                             e.getKoreanLabel(),
@@ -308,6 +537,28 @@ public class PostService {
                 .toList();
     }
 
+    // 기간별 감정 / 클릭 통계 (롤업 테이블만 조회)
+    @Transactional(readOnly = true)
+    public List<StatBucketResponse> getStatHistory(LocalDate from, LocalDate to, String granularityValue, String emotionValue) {
+        RollupGranularity granularity;
+        try {
+            granularity = RollupGranularity.valueOf(granularityValue.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("granularity 는 HOUR 또는 DAY 입니다.");
+        }
+        Emotion emotion = (emotionValue == null || emotionValue.isBlank())
+                ? null
+                : Emotion.from(emotionValue);
+
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("from 은 to 보다 늦을 수 없습니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= maxStatRangeDays) {
+            throw new IllegalArgumentException("조회 기간은 최대 " + maxStatRangeDays + "일입니다.");
+        }
+        return statRollups.history(from, to, granularity, emotion);
+    }
+
     // 감정 전체 코드 목록 (JOY, ANGER, ...)
     @Transactional(readOnly = true)
     public List<String> getEmotionCodes() {
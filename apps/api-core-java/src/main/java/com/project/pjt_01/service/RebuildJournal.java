@@ -0,0 +1,106 @@
+package com.project.pjt_01.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 메모리 색인 공용: 락 + 재구성 중 변경 기록 (TimelineIndex / SearchIndex / TrendingIndex)
+ * - 조회는 읽기 락, 이벤트 반영 / 교체는 쓰기 락
+ * - 재구성 조회(DB)는 락 없이 실행하고, 그동안 들어온 이벤트는 현재 색인에 반영하면서 기록해 둠
+ *   → 새 색인으로 교체한 직후 같은 쓰기 락 안에서 다시 적용 (조회 이후 커밋된 변경이 빠지지 않음)
+ *   조회 도중 커밋된 변경은 조회 결과와 기록 양쪽에 있을 수 있으므로 applier 는 멱등이거나 근사치여야 함
+ * - 조회가 실패하면 기록만 버리고 기존 색인 유지
+ *
+ * @param <O> 색인 변경 이벤트
+ */
+final class RebuildJournal<O> {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // 쓰기 락 안에서 호출됨
+    private final Consumer<O> applier;
+
+    // 재구성 중에 들어온 이벤트 (재구성 중이 아니면 null)
+    private List<O> journal;
+
+    private volatile boolean ready = false;
+
+    RebuildJournal(Consumer<O> applier) {
+        this.applier = applier;
+    }
+
+    // 첫 재구성이 끝났는지
+    boolean isReady() {
+        return ready;
+    }
+
+    <T> T read(Supplier<T> reader) {
+        lock.readLock().lock();
+        try {
+            return reader.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 기록하지 않는 변경 (쓰기 락 안에서 실행, 재구성 중이면 교체될 현재 색인에만 적용)
+    void write(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void apply(O op) {
+        lock.writeLock().lock();
+        try {
+            applier.accept(op);
+            if (journal != null) {
+                journal.add(op);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @param load    새 색인을 만드는 작업 (락 없이 실행, 현재 색인은 건드리지 않음)
+     * @param install 새 색인으로 교체 (쓰기 락 안에서 실행, 이후 기록된 이벤트를 다시 적용)
+     */
+    void rebuild(Runnable load, Runnable install) {
+        lock.writeLock().lock();
+        try {
+            journal = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            load.run();
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                journal = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            install.run();
+            for (O op : journal) {
+                applier.accept(op);
+            }
+            journal = null;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
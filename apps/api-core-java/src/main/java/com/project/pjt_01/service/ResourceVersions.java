@@ -0,0 +1,112 @@
+package com.project.pjt_01.service;
+
+import com.project.pjt_01.domain.Emotion;
+import com.project.pjt_01.event.PostEvents.ButtonClicked;
+import com.project.pjt_01.event.PostEvents.LlmReplied;
+import com.project.pjt_01.event.PostEvents.PostCreated;
+import com.project.pjt_01.event.PostEvents.PostHidden;
+import com.project.pjt_01.event.PostEvents.PostReported;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 조건부 GET(ETag / If-None-Match)용 버전 카운터
+ * - 글: 클릭 / 신고 / 숨김 / LLM 답글 반영 시 증가
+ *   글 수만큼 맵을 키우지 않도록 postId 해시로 나눈 고정 크기 슬롯 사용
+ *   (같은 슬롯의 다른 글이 바뀌어도 버전이 오름 → 304 를 덜 줄 뿐 잘못된 304 는 없음)
+ * - 피드: 감정별 + 전체 버전. 피드에 보이는 값(글 목록 / 클릭 수 / 신고 수 / 답글)이 바뀌면 증가
+ *
+ * 카운터는 인스턴스 메모리라서 ETag 에 인스턴스 nonce 를 넣고(재기동 / 다른 인스턴스면 불일치),
+ * 다른 인스턴스에서 일어난 변경은 보이지 않으므로 validity-ms 단위 시간 구간도 넣어서 최대 지연을 제한
+ */
+@Component
+public class ResourceVersions {
+
+    private static final int POST_SLOTS = 1 << 16;
+    private static final int ALL = Emotion.values().length;
+
+    private final String nonce = Long.toHexString(ThreadLocalRandom.current().nextLong());
+    private final long validityMs;
+
+    private final AtomicLongArray postVersions = new AtomicLongArray(POST_SLOTS);
+    // Emotion.ordinal() 인덱스 + 마지막 칸은 전체 피드
+    private final AtomicLongArray feedVersions = new AtomicLongArray(ALL + 1);
+
+    public ResourceVersions(@Value("${writeflow.etag.validity-ms:30000}") long validityMs) {
+        this.validityMs = validityMs;
+    }
+
+    public String postETag(Long postId) {
+        return etag("p", postVersion(postId));
+    }
+
+    public long postVersion(Long postId) {
+        return postVersions.get(slot(postId));
+    }
+
+    // emotionValue 가 비어 있으면 전체 피드
+    // 캐시된 피드는 만들 때 읽은 버전으로 ETag 를 만듦 (현재 버전을 붙이면 옛 본문이 새 ETag 로 나감)
+    public long feedVersion(String emotionValue) {
+        return feedVersions.get(feedIndex(emotionValue));
+    }
+
+    public String feedETag(String emotionValue, long version) {
+        return etag("f" + feedIndex(emotionValue), version);
+    }
+
+    @TransactionalEventListener
+    public void onPostCreated(PostCreated event) {
+        bumpFeed(event.emotion());
+    }
+
+    @TransactionalEventListener
+    public void onButtonClicked(ButtonClicked event) {
+        bump(event.postId(), event.emotion());
+    }
+
+    @TransactionalEventListener
+    public void onPostReported(PostReported event) {
+        bump(event.postId(), event.emotion());
+    }
+
+    @TransactionalEventListener
+    public void onPostHidden(PostHidden event) {
+        bump(event.postId(), event.emotion());
+    }
+
+    @EventListener
+    public void onLlmReplied(LlmReplied event) {
+        bump(event.postId(), event.emotion());
+    }
+
+    private void bump(Long postId, Emotion emotion) {
+        postVersions.incrementAndGet(slot(postId));
+        bumpFeed(emotion);
+    }
+
+    private void bumpFeed(Emotion emotion) {
+        feedVersions.incrementAndGet(emotion.ordinal());
+        feedVersions.incrementAndGet(ALL);
+    }
+
+    private String etag(String kind, long version) {
+        long window = System.currentTimeMillis() / validityMs;
+        return "W/\"" + nonce + "-" + kind + "-" + Long.toHexString(version) + "-" + Long.toHexString(window) + "\"";
+    }
+
+    private static int feedIndex(String emotionValue) {
+        return (emotionValue == null || emotionValue.isBlank())
+                ? ALL
+                : Emotion.from(emotionValue).ordinal();
+    }
+
+    private static int slot(Long postId) {
+        long h = postId * 0x9E3779B97F4A7C15L;
+        return (int) (h >>> 48) & (POST_SLOTS - 1);
+    }
+}
@@ -0,0 +1,334 @@
+package com.project.pjt_01.service;
+
+import com.project.pjt_01.domain.Emotion;
+import com.project.pjt_01.event.PostEvents.PostCreated;
+import com.project.pjt_01.event.PostEvents.PostHidden;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 글 본문 검색용 메모리 역색인 (문자 bigram)
+ * - 형태소 분석 없이 한글도 검색되도록 단어 안의 연속 두 글자 단위로 색인 ("오늘 날씨" → 오늘, 날씨)
+ * - 검색어 bigram 중 min-match 비율 이상 포함한 글만 후보, IDF 합으로 점수 → 같은 점수면 최신순
+ *   포스팅이 짧은 bigram 부터: 앞쪽 (개수 - 필요 수 + 1)개 목록만 병합해 후보를 만들고 (나머지에만 있는 글은
+ *   필요 수를 채울 수 없음) 긴 목록은 이진 탐색으로 확인만 함 → 흔한 bigram 목록은 훑지 않음
+ *   common-ratio 이상의 글에 들어 있는 bigram(어미 "어요", "해요" 등)은 변별력이 없어 매칭에서 제외
+ * - 작성 / 숨김 이벤트(커밋 후)로 갱신: 숨김은 문서 목록에서만 빼고, 포스팅은 주기적 재구성 때 정리
+ * - 매칭은 메모리에서만 하고 DB는 결과 ID 한 페이지 조회에만 사용
+ */
+@Slf4j
+@Component
+public class SearchIndex {
+
+    private static final String LOAD_SQL = "SELECT id, emotion, content FROM posts WHERE hidden = false ORDER BY id";
+    // 글이 이보다 적으면 흔한 bigram 제외를 하지 않음 (작은 색인에서는 비율이 의미 없음)
+    private static final int COMMON_MIN_DOCS = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int maxResults;
+    private final double minMatch;
+    private final double commonRatio;
+
+    // 같은 글 색인 / 숨김은 멱등이라 조회 결과와 겹쳐 다시 적용돼도 무방
+    private final RebuildJournal<Op> journal = new RebuildJournal<>(this::applyLocked);
+
+    // bigram → 그 bigram을 포함한 글 ID
+    private Map<String, SortedIds> postings = new HashMap<>();
+    // 검색 대상(공개) 글 → 감정
+    private Map<Long, Emotion> docs = new HashMap<>();
+
+    public SearchIndex(JdbcTemplate jdbcTemplate,
+                       @Value("${writeflow.search.enabled:true}") boolean enabled,
+                       @Value("${writeflow.search.max-results:1000}") int maxResults,
+                       @Value("${writeflow.search.min-match:0.8}") double minMatch,
+                       @Value("${writeflow.search.common-ratio:0.5}") double commonRatio) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.maxResults = maxResults;
+        this.minMatch = minMatch;
+        this.commonRatio = commonRatio;
+    }
+
+    /**
+     * @param emotion null 이면 전체
+     * @return 점수순 글 ID (최대 max-results 개)
+     */
+    public List<Long> search(String query, Emotion emotion) {
+        if (!enabled) {
+            throw new IllegalStateException("검색 기능이 꺼져 있습니다.");
+        }
+        if (!journal.isReady()) {
+            throw new IllegalStateException("검색 색인을 준비 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        Set<String> queryGrams = grams(query);
+        if (queryGrams.isEmpty()) {
+            throw new IllegalArgumentException("검색어는 2자 이상 입력해주세요.");
+        }
+
+        return journal.read(() -> {
+            int docCount = Math.max(1, docs.size());
+
+            // 색인에 없는 bigram 은 어떤 글에도 매칭되지 않지만 필요 수 계산에는 들어감
+            int missing = 0;
+            List<SortedIds> lists = new ArrayList<>(queryGrams.size());
+            for (String gram : queryGrams) {
+                SortedIds ids = postings.get(gram);
+                if (ids == null || ids.size() == 0) {
+                    missing++;
+                } else {
+                    lists.add(ids);
+                }
+            }
+            if (docCount >= COMMON_MIN_DOCS) {
+                List<SortedIds> rare = lists.stream()
+                        .filter(ids -> ids.size() < commonRatio * docCount)
+                        .toList();
+                if (!rare.isEmpty()) {
+                    lists = rare;   // 전부 흔한 bigram 이면 그대로 사용
+                }
+            }
+            int required = Math.max(1, (int) Math.ceil((missing + lists.size()) * minMatch));
+            if (lists.size() < required) {
+                return List.of();
+            }
+
+            lists = new ArrayList<>(lists);
+            lists.sort(Comparator.comparingInt(SortedIds::size));
+            return match(lists, required, docCount, emotion);
+        });
+    }
+
+    // lists: 포스팅 길이 오름차순 (읽기 락 안에서 호출)
+    private List<Long> match(List<SortedIds> lists, int required, int docCount, Emotion emotion) {
+        int count = lists.size();
+        int sources = count - required + 1;
+        double[] idf = new double[count];
+        int[] cursor = new int[count];   // 후보 목록: 다음 읽을 위치, 확인 목록: 다음 탐색 시작 위치
+        for (int i = 0; i < count; i++) {
+            // 흔한 bigram 일수록 점수 기여가 작음
+            idf[i] = Math.log(1.0 + (double) docCount / lists.get(i).size());
+        }
+
+        Ranking ranking = new Ranking(maxResults);
+        while (true) {
+            // 후보 목록들의 머리 중 가장 작은 ID (오름차순 병합)
+            long id = Long.MAX_VALUE;
+            for (int i = 0; i < sources; i++) {
+                if (cursor[i] < lists.get(i).size()) {
+                    id = Math.min(id, lists.get(i).get(cursor[i]));
+                }
+            }
+            if (id == Long.MAX_VALUE) {
+                break;
+            }
+
+            int matched = 0;
+            double score = 0;
+            for (int i = 0; i < sources; i++) {
+                SortedIds ids = lists.get(i);
+                if (cursor[i] < ids.size() && ids.get(cursor[i]) == id) {
+                    cursor[i]++;
+                    matched++;
+                    score += idf[i];
+                }
+            }
+            // 나머지 목록으로 필요 수를 채울 수 없으면 확인 중단
+            for (int i = sources; i < count && matched + (count - i) >= required; i++) {
+                SortedIds ids = lists.get(i);
+                cursor[i] = ids.lowerBound(id, cursor[i]);
+                if (cursor[i] < ids.size() && ids.get(cursor[i]) == id) {
+                    matched++;
+                    score += idf[i];
+                }
+            }
+            if (matched < required) {
+                continue;
+            }
+
+            Emotion docEmotion = docs.get(id);
+            if (docEmotion == null || (emotion != null && docEmotion != emotion)) {
+                continue;   // 숨김된 글 / 다른 감정
+            }
+            ranking.offer(id, score);
+        }
+        return ranking.result();
+    }
+
+    @TransactionalEventListener
+    public void onPostCreated(PostCreated event) {
+        apply(new Op(event.postId(), event.emotion(), event.content()));
+    }
+
+    @TransactionalEventListener
+    public void onPostHidden(PostHidden event) {
+        apply(new Op(event.postId(), event.emotion(), null));
+    }
+
+    // 기동 직후 + 주기적 재구성 (숨김 글 포스팅 정리 / 다른 인스턴스의 쓰기 반영)
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            fixedDelayString = "${writeflow.search.rebuild-interval-ms:1800000}",
+            initialDelayString = "${writeflow.search.rebuild-interval-ms:1800000}"
+    )
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        Map<String, SortedIds> freshPostings = new HashMap<>();
+        Map<Long, Emotion> freshDocs = new HashMap<>();
+        journal.rebuild(
+                () -> jdbcTemplate.query(LOAD_SQL, (RowCallbackHandler) rs -> index(freshPostings, freshDocs,
+                        rs.getLong(1), Emotion.valueOf(rs.getString(2)), rs.getString(3))),
+                () -> {
+                    postings = freshPostings;
+                    docs = freshDocs;
+                });
+        log.debug("search index rebuilt: {} posts, {} grams", freshDocs.size(), freshPostings.size());
+    }
+
+    private void apply(Op op) {
+        if (enabled) {
+            journal.apply(op);
+        }
+    }
+
+    private void applyLocked(Op op) {
+        if (op.content() != null) {
+            index(postings, docs, op.postId(), op.emotion(), op.content());
+        } else {
+            docs.remove(op.postId());
+        }
+    }
+
+    private static void index(Map<String, SortedIds> postings, Map<Long, Emotion> docs,
+                              long id, Emotion emotion, String content) {
+        docs.put(id, emotion);
+        for (String gram : grams(content)) {
+            postings.computeIfAbsent(gram, k -> new SortedIds(4)).add(id);
+        }
+    }
+
+    // 글자/숫자만 남겨 단어로 나누고, 단어마다 연속 두 글자씩 (소문자 기준)
+    static Set<String> grams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (text == null) {
+            return grams;
+        }
+        String normalized = text.toLowerCase(Locale.ROOT);
+        int wordStart = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean letter = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (letter && wordStart < 0) {
+                wordStart = i;
+            } else if (!letter && wordStart >= 0) {
+                for (int j = wordStart; j + 2 <= i; j++) {
+                    grams.add(normalized.substring(j, j + 2));
+                }
+                wordStart = -1;
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * 점수 상위 N개 (최소 힙: 루트 = 점수가 가장 낮고, 같으면 가장 오래된 글)
+     * 후보가 ID 오름차순으로 들어오므로 같은 점수면 나중 글(최신)이 앞 글을 밀어냄
+     */
+    private static final class Ranking {
+        private final long[] ids;
+        private final double[] scores;
+        private int size;
+
+        Ranking(int capacity) {
+            this.ids = new long[Math.max(1, capacity)];
+            this.scores = new double[ids.length];
+        }
+
+        void offer(long id, double score) {
+            if (size < ids.length) {
+                ids[size] = id;
+                scores[size] = score;
+                siftUp(size++);
+            } else if (worse(0, id, score)) {
+                ids[0] = id;
+                scores[0] = score;
+                siftDown(0);
+            }
+        }
+
+        // 점수 내림차순, 같으면 최신순
+        List<Long> result() {
+            Long[] ordered = new Long[size];
+            while (size > 0) {
+                ordered[size - 1] = ids[0];
+                size--;
+                ids[0] = ids[size];
+                scores[0] = scores[size];
+                siftDown(0);
+            }
+            return List.of(ordered);
+        }
+
+        // index 위치 항목이 (id, score) 보다 순위가 낮은지
+        private boolean worse(int index, long id, double score) {
+            return scores[index] < score || (scores[index] == score && ids[index] < id);
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (!worse(index, ids[parent], scores[parent])) {
+                    return;
+                }
+                swap(parent, index);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index) {
+            while (true) {
+                int left = 2 * index + 1;
+                if (left >= size) {
+                    return;
+                }
+                int lower = (left + 1 < size && worse(left + 1, ids[left], scores[left])) ? left + 1 : left;
+                if (!worse(lower, ids[index], scores[index])) {
+                    return;
+                }
+                swap(index, lower);
+                index = lower;
+            }
+        }
+
+        private void swap(int a, int b) {
+            long id = ids[a];
+            ids[a] = ids[b];
+            ids[b] = id;
+            double score = scores[a];
+            scores[a] = scores[b];
+            scores[b] = score;
+        }
+    }
+
+    // content == null 이면 숨김
+    private record Op(Long postId, Emotion emotion, String content) {}
+}
@@ -0,0 +1,84 @@
+package com.project.pjt_01.service;
+
+import java.util.Arrays;
+
+/**
+ * 오름차순 정렬된 long ID 배열 (타임라인 / 검색 색인 공용)
+ * - ID가 시간순이라 대부분 끝에 추가되므로 삽입은 사실상 O(1)
+ * - 동기화 없음: 사용하는 쪽에서 락으로 보호
+ */
+final class SortedIds {
+
+    private long[] ids;
+    private int size;
+
+    SortedIds() {
+        this(64);
+    }
+
+    SortedIds(int initialCapacity) {
+        this.ids = new long[initialCapacity];
+    }
+
+    int size() {
+        return size;
+    }
+
+    long get(int index) {
+        return ids[index];
+    }
+
+    // [from, size) 에서 id 이상인 첫 위치 (없으면 size)
+    // 오름차순 ID 를 차례로 찾을 때는 앞에서 찾은 위치를 from 으로 넘겨 구간을 줄임
+    int lowerBound(long id, int from) {
+        int pos = Arrays.binarySearch(ids, from, size, id);
+        return (pos >= 0) ? pos : -(pos + 1);
+    }
+
+    void add(long id) {
+        // 끝에 붙는 경우는 탐색 생략
+        if (size == 0 || ids[size - 1] < id) {
+            ensureCapacity();
+            ids[size++] = id;
+            return;
+        }
+        int pos = Arrays.binarySearch(ids, 0, size, id);
+        if (pos >= 0) {
+            return;   // 이미 있음
+        }
+        int insertAt = -(pos + 1);
+        ensureCapacity();
+        System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+        ids[insertAt] = id;
+        size++;
+    }
+
+    void remove(long id) {
+        int pos = Arrays.binarySearch(ids, 0, size, id);
+        if (pos < 0) {
+            return;
+        }
+        System.arraycopy(ids, pos + 1, ids, pos, size - pos - 1);
+        size--;
+    }
+
+    // 최신(끝)에서 skip 개 건너뛰고 limit 개를 최신순으로
+    long[] newest(long skip, int limit) {
+        if (skip >= size) {
+            return new long[0];
+        }
+        int from = size - 1 - (int) skip;
+        int count = Math.min(limit, from + 1);
+        long[] result = new long[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = ids[from - i];
+        }
+        return result;
+    }
+
+    private void ensureCapacity() {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, Math.max(4, ids.length * 2));
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.project.pjt_01.service;
+
+import com.project.pjt_01.domain.ButtonType;
+import com.project.pjt_01.domain.Emotion;
+import com.project.pjt_01.domain.RollupGranularity;
+import com.project.pjt_01.dto.post.PostDtos.StatBucketResponse;
+import com.project.pjt_01.event.PostEvents.ButtonClicked;
+import com.project.pjt_01.event.PostEvents.PostCreated;
+import com.project.pjt_01.repository.RollupJdbcRepository;
+import com.project.pjt_01.repository.RollupJdbcRepository.Key;
+import com.project.pjt_01.repository.RollupJdbcRepository.Kind;
+import com.project.pjt_01.repository.RollupJdbcRepository.Row;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 기간별 통계 롤업 (감정별 작성 글 수 / 감정·버튼별 클릭 수)
+ * - 작성 / 클릭 이벤트(커밋 후)를 시간 버킷별로 메모리에 모았다가 주기적으로 시간별 행에 더함
+ *   (키가 버킷 × 감정 × 버튼 수준이라 글 수와 무관하게 작음)
+ * - compaction: hourly-retention-days 가 지난 날의 시간별 행은 일별 행으로 합치고 삭제
+ * - 기간 조회는 롤업 테이블만 읽음 (posts / button_clicks 스캔 없음)
+ *   일별 조회 = 일별 행 + 아직 합쳐지지 않은 최근 시간별 행을 날짜로 묶어서 합산
+ *   시간별 조회는 시간별 행이 남아 있는 최근 구간만 가능
+ *
+ * 버킷 시각은 writeflow.rollup.zone 기준 로컬 시각, 롤업 도입 이전 데이터는 포함되지 않음
+ */
+@Slf4j
+@Component
+public class StatRollups {
+
+    private final RollupJdbcRepository rollupJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final ZoneId zone;
+    private final int hourlyRetentionDays;
+
+    // 아직 DB에 반영되지 않은 시간별 증분 (merge 는 키 단위 원자적)
+    private final ConcurrentHashMap<Key, Long> pendingPosts = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Key, Long> pendingClicks = new ConcurrentHashMap<>();
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public StatRollups(RollupJdbcRepository rollupJdbcRepository,
+                       TransactionTemplate transactionTemplate,
+                       @Value("${writeflow.rollup.enabled:true}") boolean enabled,
+                       @Value("${writeflow.rollup.zone:Asia/Seoul}") String zone,
+                       @Value("${writeflow.rollup.hourly-retention-days:3}") int hourlyRetentionDays) {
+        this.rollupJdbcRepository = rollupJdbcRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.zone = ZoneId.of(zone);
+        this.hourlyRetentionDays = hourlyRetentionDays;
+    }
+
+    @TransactionalEventListener
+    public void onPostCreated(PostCreated event) {
+        if (enabled) {
+            pendingPosts.merge(new Key(currentHour(), event.emotion(), null), 1L, Long::sum);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onButtonClicked(ButtonClicked event) {
+        if (enabled) {
+            pendingClicks.merge(new Key(currentHour(), event.emotion(), event.buttonType()), 1L, Long::sum);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${writeflow.rollup.flush-interval-ms:10000}")
+    public void flush() {
+        if (!enabled) {
+            return;
+        }
+
+        flushLock.lock();
+        try {
+            Map<Key, Long> posts = drain(pendingPosts);
+            Map<Key, Long> clicks = drain(pendingClicks);
+            if (posts.isEmpty() && clicks.isEmpty()) {
+                return;
+            }
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    rollupJdbcRepository.add(Kind.POSTS, RollupGranularity.HOUR, posts);
+                    rollupJdbcRepository.add(Kind.CLICKS, RollupGranularity.HOUR, clicks);
+                });
+            } catch (RuntimeException e) {
+                // 실패한 증분은 다음 주기에 다시 시도
+                log.warn("rollup flush failed, re-queueing {} buckets: {}", posts.size() + clicks.size(), e.getMessage());
+                posts.forEach((key, d) -> pendingPosts.merge(key, d, Long::sum));
+                clicks.forEach((key, d) -> pendingClicks.merge(key, d, Long::sum));
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // 보존 기간이 지난 시간별 행 → 일별 행
+    @Scheduled(
+            fixedDelayString = "${writeflow.rollup.compact-interval-ms:3600000}",
+            initialDelayString = "${writeflow.rollup.compact-interval-ms:3600000}"
+    )
+    public void compact() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDate.now(zone).minusDays(hourlyRetentionDays).atStartOfDay();
+        Integer merged = transactionTemplate.execute(status ->
+                rollupJdbcRepository.compactHourly(Kind.POSTS, cutoff)
+                        + rollupJdbcRepository.compactHourly(Kind.CLICKS, cutoff));
+        if (merged != null && merged > 0) {
+            log.info("rollup compaction merged {} hourly rows before {}", merged, cutoff);
+        }
+    }
+
+    /**
+     * [from, to] 날짜 구간의 버킷별 통계 (시간순)
+     * @param emotion null 이면 전체 감정
+     */
+    public List<StatBucketResponse> history(LocalDate from, LocalDate to, RollupGranularity granularity, Emotion emotion) {
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+
+        List<Row> postRows = new ArrayList<>(rollupJdbcRepository.findRange(Kind.POSTS, RollupGranularity.HOUR, start, end));
+        List<Row> clickRows = new ArrayList<>(rollupJdbcRepository.findRange(Kind.CLICKS, RollupGranularity.HOUR, start, end));
+        if (granularity == RollupGranularity.DAY) {
+            postRows.addAll(rollupJdbcRepository.findRange(Kind.POSTS, RollupGranularity.DAY, start, end));
+            clickRows.addAll(rollupJdbcRepository.findRange(Kind.CLICKS, RollupGranularity.DAY, start, end));
+        }
+
+        Map<LocalDateTime, Bucket> buckets = new TreeMap<>();
+        for (Row row : postRows) {
+            if (emotion == null || row.emotion() == emotion) {
+                bucketOf(buckets, row, granularity).posts.merge(row.emotion(), row.count(), Long::sum);
+            }
+        }
+        for (Row row : clickRows) {
+            if (emotion == null || row.emotion() == emotion) {
+                bucketOf(buckets, row, granularity).clicks.merge(row.buttonType(), row.count(), Long::sum);
+            }
+        }
+
+        return buckets.entrySet().stream()
+                .map(e -> new StatBucketResponse(e.getKey(), names(e.getValue().posts), names(e.getValue().clicks)))
+                .toList();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private LocalDateTime currentHour() {
+        return LocalDateTime.now(zone).truncatedTo(ChronoUnit.HOURS);
+    }
+
+    // 키를 하나씩 빼면서 합계 확보 (빼는 사이 들어온 증분은 새 항목으로 남아 다음 주기에 반영)
+    private static Map<Key, Long> drain(ConcurrentHashMap<Key, Long> pending) {
+        Map<Key, Long> drained = new HashMap<>();
+        for (Key key : pending.keySet()) {
+            Long d = pending.remove(key);
+            if (d != null && d != 0) {
+                drained.put(key, d);
+            }
+        }
+        return drained;
+    }
+
+    private static Bucket bucketOf(Map<LocalDateTime, Bucket> buckets, Row row, RollupGranularity granularity) {
+        LocalDateTime start = (granularity == RollupGranularity.DAY)
+                ? row.bucketStart().toLocalDate().atStartOfDay()
+                : row.bucketStart();
+        return buckets.computeIfAbsent(start, k -> new Bucket());
+    }
+
+    private static <E extends Enum<E>> Map<String, Long> names(Map<E, Long> counts) {
+        Map<String, Long> result = new LinkedHashMap<>();   // enum 선언 순서 유지
+        counts.forEach((k, v) -> result.put(k.name(), v));
+        return result;
+    }
+
+    private static final class Bucket {
+        private final Map<Emotion, Long> posts = new EnumMap<>(Emotion.class);
+        private final Map<ButtonType, Long> clicks = new EnumMap<>(ButtonType.class);
+    }
+}
@@ -0,0 +1,129 @@
+package com.project.pjt_01.service;
+
+import com.project.pjt_01.domain.Emotion;
+import com.project.pjt_01.event.PostEvents.PostCreated;
+import com.project.pjt_01.event.PostEvents.PostHidden;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 피드용 메모리 타임라인 인덱스
+ * - 공개 글 ID를 정렬된 long[] 로 보관 (전체 1개 + 감정별 1개씩)
+ * - ID가 시간순(@TimeOrderedId)이라 ID 순서 = 작성 순서
+ *   (그 이전 IDENTITY ID들도 전부 더 작은 값이라 순서가 유지됨)
+ * - 기동 시 posts 에서 재구성하고, 작성 / 숨김 이벤트(커밋 후)로 갱신
+ * - 다른 인스턴스의 쓰기는 주기적 재구성으로 따라잡음
+ *
+ * 피드 한 페이지 = 배열 뒤에서부터 O(page) 로 ID를 잘라서 IN 조회 (ORDER BY / OFFSET 스캔 없음)
+ */
+@Slf4j
+@Component
+public class TimelineIndex {
+
+    private static final String LOAD_SQL = "SELECT id, emotion FROM posts WHERE hidden = false ORDER BY id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+
+    // add / remove 모두 멱등이라 조회 결과와 겹쳐 다시 적용돼도 무방
+    private final RebuildJournal<Op> journal = new RebuildJournal<>(this::applyLocked);
+
+    private SortedIds all = new SortedIds();
+    private SortedIds[] byEmotion = newEmotionTimelines();
+
+    public TimelineIndex(JdbcTemplate jdbcTemplate,
+                         @Value("${writeflow.timeline-index.enabled:true}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    public boolean isReady() {
+        return enabled && journal.isReady();
+    }
+
+    /**
+     * 최신순 page 번째 묶음의 ID
+     * @param emotion null 이면 전체 피드
+     */
+    public Slice page(Emotion emotion, int page, int size) {
+        return journal.read(() -> {
+            SortedIds timeline = (emotion == null) ? all : byEmotion[emotion.ordinal()];
+            return new Slice(timeline.newest((long) page * size, size), timeline.size());
+        });
+    }
+
+    @TransactionalEventListener
+    public void onPostCreated(PostCreated event) {
+        apply(new Op(event.postId(), event.emotion(), true));
+    }
+
+    @TransactionalEventListener
+    public void onPostHidden(PostHidden event) {
+        apply(new Op(event.postId(), event.emotion(), false));
+    }
+
+    // 기동 직후 + 주기적 재구성
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            fixedDelayString = "${writeflow.timeline-index.rebuild-interval-ms:300000}",
+            initialDelayString = "${writeflow.timeline-index.rebuild-interval-ms:300000}"
+    )
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        SortedIds freshAll = new SortedIds();
+        SortedIds[] freshByEmotion = newEmotionTimelines();
+        journal.rebuild(
+                // ID 순으로 읽으므로 전부 배열 끝에 붙음
+                () -> jdbcTemplate.query(LOAD_SQL, (RowCallbackHandler) rs -> {
+                    long id = rs.getLong(1);
+                    Emotion emotion = Emotion.valueOf(rs.getString(2));
+                    freshAll.add(id);
+                    freshByEmotion[emotion.ordinal()].add(id);
+                }),
+                () -> {
+                    all = freshAll;
+                    byEmotion = freshByEmotion;
+                });
+        log.debug("timeline index rebuilt: {} visible posts", freshAll.size());
+    }
+
+    private void apply(Op op) {
+        if (enabled) {
+            journal.apply(op);
+        }
+    }
+
+    private void applyLocked(Op op) {
+        SortedIds emotionTimeline = byEmotion[op.emotion().ordinal()];
+        if (op.visible()) {
+            all.add(op.postId());
+            emotionTimeline.add(op.postId());
+        } else {
+            all.remove(op.postId());
+            emotionTimeline.remove(op.postId());
+        }
+    }
+
+    private static SortedIds[] newEmotionTimelines() {
+        SortedIds[] timelines = new SortedIds[Emotion.values().length];
+        for (int i = 0; i < timelines.length; i++) {
+            timelines[i] = new SortedIds();
+        }
+        return timelines;
+    }
+
+    // ids: 최신순, total: 해당 타임라인의 전체 공개 글 수
+    public record Slice(long[] ids, long total) {}
+
+    private record Op(Long postId, Emotion emotion, boolean visible) {}
+}
@@ -0,0 +1,149 @@
+package com.project.pjt_01.service;
+
+import java.util.Arrays;
+import java.util.function.LongPredicate;
+
+/**
+ * 점수 상위 K개 글 (트렌딩용 최소 힙)
+ * - 루트 = K개 중 최저 점수 → 새 점수가 루트보다 클 때만 교체
+ * - 같은 글이 다시 들어오면 제자리에서 새 점수 쪽으로 올리거나 내림
+ *   (감쇠는 전체에 같은 배수라 순서 불변)
+ * - K가 작아서(수백) 힙 안의 위치는 선형 탐색
+ * - 동기화 없음: 사용하는 쪽에서 락으로 보호
+ */
+final class TopK {
+
+    private final int capacity;
+    private final long[] ids;
+    private final double[] scores;
+    private int size;
+
+    TopK(int capacity) {
+        this.capacity = capacity;
+        this.ids = new long[capacity];
+        this.scores = new double[capacity];
+    }
+
+    int size() {
+        return size;
+    }
+
+    // 글의 새 점수 반영
+    void offer(long postId, double score) {
+        int index = indexOf(postId);
+        if (index >= 0) {
+            double old = scores[index];
+            scores[index] = score;
+            if (score < old) {
+                siftUp(index);
+            } else {
+                siftDown(index);
+            }
+            return;
+        }
+        if (size < capacity) {
+            ids[size] = postId;
+            scores[size] = score;
+            siftUp(size++);
+            return;
+        }
+        if (score > scores[0]) {
+            ids[0] = postId;
+            scores[0] = score;
+            siftDown(0);
+        }
+    }
+
+    boolean contains(long postId) {
+        return indexOf(postId) >= 0;
+    }
+
+    // keep 이 false 인 글을 빼고 힙을 다시 세움
+    boolean retainIf(LongPredicate keep) {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if (keep.test(ids[i])) {
+                ids[kept] = ids[i];
+                scores[kept] = scores[i];
+                kept++;
+            }
+        }
+        if (kept == size) {
+            return false;
+        }
+        size = kept;
+        for (int i = (size >>> 1) - 1; i >= 0; i--) {
+            siftDown(i);
+        }
+        return true;
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    void scale(double factor) {
+        for (int i = 0; i < size; i++) {
+            scores[i] *= factor;
+        }
+    }
+
+    // 점수 내림차순 상위 limit 개
+    long[] top(int limit) {
+        int count = Math.min(limit, size);
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(scores[b], scores[a]));
+        long[] result = new long[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = ids[order[i]];
+        }
+        return result;
+    }
+
+    private int indexOf(long postId) {
+        for (int i = 0; i < size; i++) {
+            if (ids[i] == postId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (scores[parent] <= scores[index]) {
+                return;
+            }
+            swap(parent, index);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            int left = 2 * index + 1;
+            if (left >= size) {
+                return;
+            }
+            int smaller = (left + 1 < size && scores[left + 1] < scores[left]) ? left + 1 : left;
+            if (scores[index] <= scores[smaller]) {
+                return;
+            }
+            swap(index, smaller);
+            index = smaller;
+        }
+    }
+
+    private void swap(int a, int b) {
+        long id = ids[a];
+        ids[a] = ids[b];
+        ids[b] = id;
+        double score = scores[a];
+        scores[a] = scores[b];
+        scores[b] = score;
+    }
+}
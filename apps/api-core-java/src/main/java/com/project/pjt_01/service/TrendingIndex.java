@@ -0,0 +1,246 @@
+package com.project.pjt_01.service;
+
+import com.project.pjt_01.domain.Emotion;
+import com.project.pjt_01.domain.id.TimeOrderedIds;
+import com.project.pjt_01.event.PostEvents.ButtonClicked;
+import com.project.pjt_01.event.PostEvents.PostHidden;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 트렌딩(최근 클릭이 많은) 글 순위 - 메모리 전용
+ * - 클릭 1회 = 점수 1, half-life-ms 마다 절반으로 감쇠하는 지수 감쇠 점수
+ * - forward decay: 클릭 시각 t 에 exp(λ·(t - 기준시각)) 를 더해서 기존 점수는 건드리지 않음
+ *   (모든 글이 같은 비율로 감쇠하므로 순위는 저장된 값 그대로 비교 가능)
+ *   값이 너무 커지기 전에 기준시각을 옮기면서 전체에 같은 배수를 곱하고 거의 0이 된 글은 정리
+ * - 점수는 postId → double 원시 맵, 순위는 감정별 + 전체 top-K 힙
+ * - 기동 시 한 번만 button_clicks 최근 lookback-ms 구간에서 재구성 (클릭 테이블 스캔은 비쌈)
+ *   (클릭 ID가 시간순이라 클릭 시각은 ID에서 꺼냄, 그 이전 IDENTITY ID 클릭은 구간 밖으로 빠짐)
+ *   이후는 이 인스턴스의 클릭 이벤트만 반영, 주기적 정리는 메모리에서만 (기준시각 이동 + 감쇠된 글 제거)
+ *
+ * 조회 = 힙을 정렬한 스냅샷에서 앞쪽 K개 복사 (클릭이 없으면 스냅샷 재사용)
+ */
+@Slf4j
+@Component
+public class TrendingIndex {
+
+    private static final String LOAD_SQL = """
+            SELECT bc.id, bc.post_id, p.emotion
+            FROM button_clicks bc
+            JOIN posts p ON p.id = bc.post_id
+            WHERE p.hidden = false AND bc.id >= ?
+            """;
+
+    // exp(λ·Δt) 가 이 지수를 넘으면 기준시각 이동 (double 범위 여유 충분)
+    private static final double MAX_EXPONENT = 40.0;
+    // 현재 시점 점수가 이보다 작은 글은 정리할 때 제거
+    private static final double MIN_SCORE = 0.01;
+    private static final int ALL = Emotion.values().length;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final double lambda;
+    private final long lookbackMs;
+    private final int topK;
+
+    // 조회 도중 커밋된 클릭은 두 번 더해질 수 있음 - 순위용 근사치라 허용
+    private final RebuildJournal<Op> journal = new RebuildJournal<>(this::applyLocked);
+
+    private PostScores scores;
+    // Emotion.ordinal() 인덱스 + 마지막 칸은 전체
+    private TopK[] heaps;
+    private long landmarkMs;
+
+    // 정렬된 조회용 스냅샷 (힙이 바뀌면 null, 읽기 락 안에서 여러 스레드가 채울 수 있어서 원자 배열)
+    private final AtomicReferenceArray<long[]> snapshots = new AtomicReferenceArray<>(ALL + 1);
+
+    public TrendingIndex(JdbcTemplate jdbcTemplate,
+                         @Value("${writeflow.trending.enabled:true}") boolean enabled,
+                         @Value("${writeflow.trending.half-life-ms:21600000}") long halfLifeMs,
+                         @Value("${writeflow.trending.lookback-ms:604800000}") long lookbackMs,
+                         @Value("${writeflow.trending.top-k:100}") int topK) {
+        if (halfLifeMs <= 0 || topK <= 0) {
+            throw new IllegalArgumentException("writeflow.trending.half-life-ms / top-k 는 0보다 커야 합니다.");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.lambda = Math.log(2) / halfLifeMs;
+        this.lookbackMs = lookbackMs;
+        this.topK = topK;
+        this.scores = new PostScores(1024);
+        this.heaps = newHeaps(topK);
+        this.landmarkMs = System.currentTimeMillis();
+    }
+
+    public boolean isReady() {
+        return enabled && journal.isReady();
+    }
+
+    public int maxSize() {
+        return topK;
+    }
+
+    /**
+     * 점수 내림차순 글 ID
+     * @param emotion null 이면 전체
+     */
+    public long[] top(Emotion emotion, int limit) {
+        int index = (emotion == null) ? ALL : emotion.ordinal();
+        return journal.read(() -> {
+            long[] sorted = snapshots.get(index);
+            if (sorted == null) {
+                // 읽기 락 안에서는 힙이 바뀌지 않으므로 여러 스레드가 동시에 만들어도 결과는 같음
+                sorted = heaps[index].top(topK);
+                snapshots.set(index, sorted);
+            }
+            int count = Math.min(limit, sorted.length);
+            long[] result = new long[count];
+            System.arraycopy(sorted, 0, result, 0, count);
+            return result;
+        });
+    }
+
+    @TransactionalEventListener
+    public void onButtonClicked(ButtonClicked event) {
+        apply(new Op(event.postId(), event.emotion(), System.currentTimeMillis(), true));
+    }
+
+    @TransactionalEventListener
+    public void onPostHidden(PostHidden event) {
+        apply(new Op(event.postId(), event.emotion(), 0L, false));
+    }
+
+    // 클릭이 없어도 감쇠로 거의 0이 된 글은 주기적으로 정리 (DB 조회 없음)
+    @Scheduled(
+            fixedDelayString = "${writeflow.trending.prune-interval-ms:900000}",
+            initialDelayString = "${writeflow.trending.prune-interval-ms:900000}"
+    )
+    public void prune() {
+        if (!enabled) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        journal.write(() -> {
+            if (now > landmarkMs) {
+                moveLandmark(now);
+            }
+        });
+    }
+
+    // 기동 직후 한 번
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        long fromId = TimeOrderedIds.of(Math.max(TimeOrderedIds.EPOCH_MILLIS, now - lookbackMs), 0, 0);
+        PostScores fresh = new PostScores(Math.max(1024, scores.size()));
+        TopK[] freshHeaps = newHeaps(topK);
+        journal.rebuild(
+                () -> {
+                    jdbcTemplate.query(LOAD_SQL, (RowCallbackHandler) rs -> {
+                        long clickedAt = TimeOrderedIds.timestampOf(rs.getLong(1));
+                        Emotion emotion = Emotion.valueOf(rs.getString(3));
+                        fresh.add(rs.getLong(2), emotion.ordinal(), weight(clickedAt, now));
+                    }, fromId);
+                    fresh.scale(1.0, MIN_SCORE);
+                    fresh.forEach((postId, emotionOrdinal, score) -> {
+                        freshHeaps[emotionOrdinal].offer(postId, score);
+                        freshHeaps[ALL].offer(postId, score);
+                    });
+                },
+                () -> {
+                    scores = fresh;
+                    heaps = freshHeaps;
+                    landmarkMs = now;
+                    invalidateSnapshots();
+                });
+        log.debug("trending index rebuilt: {} posts scored", fresh.size());
+    }
+
+    private void apply(Op op) {
+        if (enabled) {
+            journal.apply(op);
+        }
+    }
+
+    private void applyLocked(Op op) {
+        int emotionIndex = op.emotion().ordinal();
+        if (!op.click()) {
+            if (scores.remove(op.postId())) {
+                refill(emotionIndex, op.postId());
+                refill(ALL, op.postId());
+            }
+            return;
+        }
+
+        if (lambda * (op.clickedAtMs() - landmarkMs) > MAX_EXPONENT) {
+            moveLandmark(op.clickedAtMs());
+        }
+        double score = scores.add(op.postId(), emotionIndex, weight(op.clickedAtMs(), landmarkMs));
+        heaps[emotionIndex].offer(op.postId(), score);
+        heaps[ALL].offer(op.postId(), score);
+        snapshots.set(emotionIndex, null);
+        snapshots.set(ALL, null);
+    }
+
+    // 숨김 글이 힙에 있었으면 그 힙은 남은 점수로 다시 채움 (숨김은 드물어서 전체 순회 허용)
+    private void refill(int index, long hiddenPostId) {
+        TopK heap = heaps[index];
+        if (!heap.contains(hiddenPostId)) {
+            return;
+        }
+        heap.clear();
+        scores.forEach((postId, emotionOrdinal, score) -> {
+            if (index == ALL || emotionOrdinal == index) {
+                heap.offer(postId, score);
+            }
+        });
+        snapshots.set(index, null);
+    }
+
+    // 기준시각을 옮기고 전체 점수를 그만큼 줄임 (순위 불변), 거의 0이 된 글 정리
+    // 힙에서도 같이 뺌 (힙 밖의 글은 힙 최저 점수 이하라 같이 정리됐으므로 다시 채울 글 없음)
+    private void moveLandmark(long newLandmarkMs) {
+        double factor = Math.exp(-lambda * (newLandmarkMs - landmarkMs));
+        scores.scale(factor, MIN_SCORE);
+        for (TopK heap : heaps) {
+            heap.scale(factor);
+            heap.retainIf(scores::contains);
+        }
+        landmarkMs = newLandmarkMs;
+        invalidateSnapshots();
+    }
+
+    // 기준시각 기준 클릭 1회의 가중치
+    private double weight(long clickedAtMs, long landmark) {
+        return Math.exp(lambda * (clickedAtMs - landmark));
+    }
+
+    private void invalidateSnapshots() {
+        for (int i = 0; i < snapshots.length(); i++) {
+            snapshots.set(i, null);
+        }
+    }
+
+    private static TopK[] newHeaps(int capacity) {
+        TopK[] heaps = new TopK[ALL + 1];
+        for (int i = 0; i < heaps.length; i++) {
+            heaps[i] = new TopK(capacity);
+        }
+        return heaps;
+    }
+
+    private record Op(Long postId, Emotion emotion, long clickedAtMs, boolean click) {}
+}
@@ -0,0 +1,89 @@
+package com.project.pjt_01.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong(1_000 * SECOND);
+
+    private RateLimiter limiter(long maxKeys) {
+        return new RateLimiter(maxKeys, Duration.ofSeconds(10), clock::get, true);
+    }
+
+    @Test
+    void burstIsAllowedThenRejectedWithWaitUntilNextToken() {
+        RateLimiter limiter = limiter(100);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire("k", SECOND, 3)).isZero();
+        }
+        assertThat(limiter.tryAcquire("k", SECOND, 3)).isEqualTo(SECOND);
+
+        clock.addAndGet(SECOND / 4);
+        assertThat(limiter.tryAcquire("k", SECOND, 3)).isEqualTo(SECOND * 3 / 4);
+    }
+
+    @Test
+    void tokensRefillOneIntervalAtATimeUpToBurst() {
+        RateLimiter limiter = limiter(100);
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("k", SECOND, 3);
+        }
+
+        clock.addAndGet(SECOND);
+        assertThat(limiter.tryAcquire("k", SECOND, 3)).isZero();
+        assertThat(limiter.tryAcquire("k", SECOND, 3)).isPositive();
+
+        // 오래 쉬어도 burst 이상은 쌓이지 않음
+        clock.addAndGet(60 * SECOND);
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire("k", SECOND, 3)).isZero();
+        }
+        assertThat(limiter.tryAcquire("k", SECOND, 3)).isPositive();
+    }
+
+    @Test
+    void keysAreIndependent() {
+        RateLimiter limiter = limiter(100);
+        assertThat(limiter.tryAcquire("a", SECOND, 1)).isZero();
+        assertThat(limiter.tryAcquire("a", SECOND, 1)).isPositive();
+        assertThat(limiter.tryAcquire("b", SECOND, 1)).isZero();
+    }
+
+    @Test
+    void refundGivesBackTheLastToken() {
+        RateLimiter limiter = limiter(100);
+        assertThat(limiter.tryAcquire("k", SECOND, 1)).isZero();
+        limiter.refund("k", SECOND);
+        assertThat(limiter.tryAcquire("k", SECOND, 1)).isZero();
+        assertThat(limiter.tryAcquire("k", SECOND, 1)).isPositive();
+    }
+
+    @Test
+    void keyCountIsBoundedByMaxKeys() {
+        RateLimiter limiter = limiter(10);
+        for (int i = 0; i < 1_000; i++) {
+            limiter.tryAcquire("key-" + i, SECOND, 1);
+        }
+        assertThat(limiter.size()).isLessThanOrEqualTo(10);
+    }
+
+    @Test
+    void idleKeysAreEvictedAndComeBackWithAFullBucket() {
+        RateLimiter limiter = limiter(100);
+        assertThat(limiter.tryAcquire("k", SECOND, 1)).isZero();
+        assertThat(limiter.size()).isEqualTo(1);
+
+        clock.addAndGet(11 * SECOND);
+        assertThat(limiter.size()).isZero();
+        assertThat(limiter.tryAcquire("k", SECOND, 1)).isZero();
+    }
+}
@@ -0,0 +1,250 @@
+package com.project.pjt_01.llm;
+
+import com.project.pjt_01.domain.Emotion;
+import com.project.pjt_01.event.PostEvents.LlmReplied;
+import com.project.pjt_01.event.PostEvents.PostCreated;
+import com.project.pjt_01.llm.LlmClient.Prompt;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LlmReplyPipelineTest {
+
+    private static final String POISON = "boom";
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<LlmReplied> published = new CopyOnWriteArrayList<>();
+    private LlmReplyPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:llm-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        jdbcTemplate.execute("""
+                CREATE TABLE posts (
+                    id BIGINT PRIMARY KEY,
+                    emotion VARCHAR(20) NOT NULL,
+                    content VARCHAR(1000) NOT NULL,
+                    hidden BOOLEAN DEFAULT FALSE NOT NULL,
+                    llm_reply VARCHAR(1000),
+                    llm_failures INT DEFAULT 0 NOT NULL
+                )""");
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (pipeline != null) {
+            pipeline.stop();
+        }
+    }
+
+    @Test
+    void queuedPostsAreRepliedInBatches() {
+        RecordingClient client = new RecordingClient(new StubLlmClient(0));
+        pipeline = pipeline(client, 100, 3, 2, 3);
+        for (long id = 1; id <= 5; id++) {
+            create(id, Emotion.JOY, "글 " + id);
+        }
+
+        pipeline.start();
+
+        await(() -> repliedCount() == 5);
+        assertThat(client.batchSizes).containsExactly(3, 2);
+        assertThat(reply(1)).isEqualTo("그 기쁨이 오래 머물길 바라요 ✨");
+        assertThat(counter("writeflow.llm.replies")).isEqualTo(5);
+        assertThat(published).extracting(LlmReplied::postId).containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L);
+    }
+
+    @Test
+    void failedCallsAreRetriedWithBackoff() {
+        AtomicInteger calls = new AtomicInteger();
+        LlmClient flaky = prompts -> {
+            if (calls.incrementAndGet() <= 2) {
+                throw new IllegalStateException("timeout");
+            }
+            return new StubLlmClient(0).generateReplies(prompts);
+        };
+        pipeline = pipeline(flaky, 100, 8, 4, 3);
+        create(1L, Emotion.LOVE, "사랑");
+        create(2L, Emotion.ANGER, "화남");
+
+        pipeline.start();
+
+        await(() -> repliedCount() == 2);
+        assertThat(calls.get()).isEqualTo(3);
+        assertThat(counter("writeflow.llm.retries")).isEqualTo(2);
+        assertThat(counter("writeflow.llm.failures")).isZero();
+    }
+
+    @Test
+    void batchFailureFallsBackToSinglePostsAndMarksTheFailedOne() {
+        RecordingClient client = new RecordingClient(new PoisonClient());
+        pipeline = pipeline(client, 100, 3, 2, 3);
+        create(1L, Emotion.JOY, "좋아요");
+        create(2L, Emotion.SADNESS, POISON);
+        create(3L, Emotion.HATE, "싫어요");
+
+        pipeline.start();
+
+        await(() -> failures(2) == 1);
+        // 묶음 2회 (재시도 포함) + 한 글씩 3회
+        assertThat(client.batchSizes).containsExactly(3, 3, 1, 1, 1);
+        assertThat(reply(1)).isNotNull();
+        assertThat(reply(2)).isNull();
+        assertThat(reply(3)).isNotNull();
+        assertThat(counter("writeflow.llm.replies")).isEqualTo(2);
+        assertThat(counter("writeflow.llm.failures")).isEqualTo(1);
+        assertThat(published).extracting(LlmReplied::postId).containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    @Test
+    void postsAtMaxFailuresAreNoLongerBackfilled() {
+        RecordingClient client = new RecordingClient(new PoisonClient());
+        pipeline = pipeline(client, 100, 8, 1, 2);
+        create(1L, Emotion.JOY, POISON);
+
+        pipeline.start();
+        await(() -> failures(1) == 1);
+        await(() -> { pipeline.backfill(); return failures(1) == 2; });
+
+        int calls = client.batchSizes.size();
+        pipeline.backfill();
+        sleep(200);
+        assertThat(client.batchSizes).hasSize(calls);
+        assertThat(failures(1)).isEqualTo(2);
+        assertThat(reply(1)).isNull();
+    }
+
+    @Test
+    void postsDroppedWhenQueueIsFullAreBackfilled() {
+        pipeline = pipeline(new StubLlmClient(0), 1, 8, 1, 3);
+        for (long id = 1; id <= 3; id++) {
+            create(id, Emotion.AMBITION, "꿈 " + id);
+        }
+        assertThat(counter("writeflow.llm.enqueued")).isEqualTo(1);
+        assertThat(counter("writeflow.llm.dropped")).isEqualTo(2);
+
+        pipeline.start();
+
+        await(() -> { pipeline.backfill(); return repliedCount() == 3; });
+        assertThat(counter("writeflow.llm.replies")).isEqualTo(3);
+    }
+
+    @Test
+    void postsFilledElsewhereAreNotCountedOrPublished() {
+        // 모델 응답을 기다리는 동안 다른 인스턴스가 2번 글을 먼저 채움
+        LlmClient racing = prompts -> {
+            jdbcTemplate.update("UPDATE posts SET llm_reply = 'other' WHERE id = 2");
+            return new StubLlmClient(0).generateReplies(prompts);
+        };
+        pipeline = pipeline(racing, 100, 8, 1, 3);
+        create(1L, Emotion.JOY, "하나");
+        create(2L, Emotion.JOY, "둘");
+
+        pipeline.start();
+
+        await(() -> reply(1) != null);
+        sleep(100);
+        assertThat(reply(2)).isEqualTo("other");
+        assertThat(counter("writeflow.llm.replies")).isEqualTo(1);
+        assertThat(published).extracting(LlmReplied::postId).containsExactly(1L);
+    }
+
+    private LlmReplyPipeline pipeline(LlmClient client, int queueCapacity, int batchSize,
+                                      int maxAttempts, int maxFailures) {
+        return new LlmReplyPipeline(client, jdbcTemplate, transactionTemplate,
+                event -> {
+                    if (event instanceof LlmReplied replied) {
+                        published.add(replied);
+                    }
+                },
+                meterRegistry, true, queueCapacity, 1, batchSize, maxAttempts, maxFailures, 1L);
+    }
+
+    // 글 작성 커밋 후 이벤트까지
+    private void create(long id, Emotion emotion, String content) {
+        jdbcTemplate.update("INSERT INTO posts (id, emotion, content) VALUES (?, ?, ?)", id, emotion.name(), content);
+        pipeline.onPostCreated(new PostCreated(id, emotion, content, LocalDateTime.now()));
+    }
+
+    private String reply(long id) {
+        return jdbcTemplate.queryForObject("SELECT llm_reply FROM posts WHERE id = ?", String.class, id);
+    }
+
+    private int failures(long id) {
+        return jdbcTemplate.queryForObject("SELECT llm_failures FROM posts WHERE id = ?", Integer.class, id);
+    }
+
+    private int repliedCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM posts WHERE llm_reply IS NOT NULL", Integer.class);
+    }
+
+    private double counter(String name) {
+        return meterRegistry.counter(name).count();
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("condition not met in time").isLessThan(deadline);
+            sleep(10);
+        }
+    }
+
+    private static void sleep(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 호출마다 묶음 크기 기록
+    private static final class RecordingClient implements LlmClient {
+        private final LlmClient delegate;
+        private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+        RecordingClient(LlmClient delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public List<String> generateReplies(List<Prompt> prompts) {
+            batchSizes.add(prompts.size());
+            return delegate.generateReplies(prompts);
+        }
+    }
+
+    // 본문이 POISON 인 글이 들어 있으면 묶음 전체 실패
+    private static final class PoisonClient implements LlmClient {
+        private final LlmClient stub = new StubLlmClient(0);
+
+        @Override
+        public List<String> generateReplies(List<Prompt> prompts) {
+            if (prompts.stream().anyMatch(p -> POISON.equals(p.content()))) {
+                throw new IllegalStateException("model error");
+            }
+            return stub.generateReplies(prompts);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.project.pjt_01.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+class PostScoresTest {
+
+    // new PostScores(1) 의 테이블 크기
+    private static final int CAPACITY = 16;
+
+    @Test
+    void addAccumulatesPerPost() {
+        PostScores scores = new PostScores(1);
+        assertThat(scores.add(1L, 0, 1.5)).isEqualTo(1.5);
+        assertThat(scores.add(1L, 0, 2.0)).isEqualTo(3.5);
+        assertThat(scores.add(2L, 3, 1.0)).isEqualTo(1.0);
+        assertThat(scores.size()).isEqualTo(2);
+        assertThat(snapshot(scores)).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 3.5, 2L, 1.0));
+    }
+
+    @Test
+    void removeShiftsClusterBackAcrossTableEnd() {
+        // 마지막 칸이 home 인 글 셋 + 0번 칸이 home 인 글 하나 → 클러스터가 끝에서 0번 쪽으로 넘어감
+        long[] last = idsWithHome(CAPACITY - 1, 3, 1);
+        long first = idsWithHome(0, 1, last[2] + 1)[0];
+        PostScores scores = new PostScores(1);
+        scores.add(last[0], 0, 1.0);   // 15
+        scores.add(last[1], 0, 2.0);   // 0
+        scores.add(last[2], 0, 3.0);   // 1
+        scores.add(first, 0, 4.0);     // 2
+
+        assertThat(scores.remove(last[0])).isTrue();
+
+        assertThat(scores.size()).isEqualTo(3);
+        assertThat(scores.contains(last[0])).isFalse();
+        assertThat(snapshot(scores)).containsExactlyInAnyOrderEntriesOf(
+                Map.of(last[1], 2.0, last[2], 3.0, first, 4.0));
+        assertThat(scores.remove(first)).isTrue();
+        assertThat(scores.remove(last[2])).isTrue();
+        assertThat(scores.remove(last[1])).isTrue();
+        assertThat(scores.remove(last[1])).isFalse();
+        assertThat(scores.size()).isZero();
+    }
+
+    @Test
+    void resizeKeepsEveryEntry() {
+        PostScores scores = new PostScores(1);
+        Map<Long, Double> expected = new HashMap<>();
+        for (long id = 1; id <= 5_000; id++) {
+            scores.add(id, (int) (id % 5), id);
+            expected.put(id, (double) id);
+        }
+        assertThat(scores.size()).isEqualTo(5_000);
+        assertThat(snapshot(scores)).isEqualTo(expected);
+
+        for (long id = 1; id <= 5_000; id += 2) {
+            assertThat(scores.remove(id)).isTrue();
+            expected.remove(id);
+        }
+        assertThat(scores.size()).isEqualTo(2_500);
+        assertThat(snapshot(scores)).isEqualTo(expected);
+        for (long id = 2; id <= 5_000; id += 2) {
+            assertThat(scores.contains(id)).isTrue();
+        }
+    }
+
+    @Test
+    void scaleMultipliesAndDropsEntriesBelowMin() {
+        PostScores scores = new PostScores(1);
+        for (long id = 1; id <= 100; id++) {
+            scores.add(id, 0, id);
+        }
+
+        scores.scale(0.1, 5.0);
+
+        // id * 0.1 >= 5 → 50 이상만 남음
+        assertThat(scores.size()).isEqualTo(51);
+        Map<Long, Double> left = snapshot(scores);
+        assertThat(left.keySet()).allMatch(id -> id >= 50);
+        assertThat(left.get(100L)).isCloseTo(10.0, offset(1e-9));
+        for (long id = 50; id <= 100; id++) {
+            assertThat(scores.contains(id)).isTrue();
+        }
+    }
+
+    private static Map<Long, Double> snapshot(PostScores scores) {
+        Map<Long, Double> result = new HashMap<>();
+        scores.forEach((postId, emotionOrdinal, score) -> result.put(postId, score));
+        return result;
+    }
+
+    private static long[] idsWithHome(int home, int count, long from) {
+        long[] ids = new long[count];
+        int found = 0;
+        for (long id = from; found < count; id++) {
+            if ((PostScores.hash(id) & (CAPACITY - 1)) == home) {
+                ids[found++] = id;
+            }
+        }
+        return ids;
+    }
+}
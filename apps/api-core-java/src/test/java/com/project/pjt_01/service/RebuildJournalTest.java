@@ -0,0 +1,63 @@
+package com.project.pjt_01.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RebuildJournalTest {
+
+    private List<String> current = new ArrayList<>();
+    private final RebuildJournal<String> journal = new RebuildJournal<>(op -> current.add(op));
+
+    @Test
+    void eventsDuringLoadAreReplayedOntoNewState() {
+        journal.apply("before");
+        List<String> fresh = new ArrayList<>();
+
+        journal.rebuild(
+                () -> {
+                    fresh.add("loaded");
+                    journal.apply("during");   // 조회 중 다른 스레드에서 들어온 이벤트
+                },
+                () -> current = fresh);
+
+        assertThat(journal.isReady()).isTrue();
+        assertThat(current).containsExactly("loaded", "during");
+
+        journal.apply("after");
+        assertThat(current).containsExactly("loaded", "during", "after");
+    }
+
+    @Test
+    void failedLoadKeepsOldStateAndStopsRecording() {
+        journal.apply("before");
+
+        assertThatThrownBy(() -> journal.rebuild(
+                () -> {
+                    journal.apply("during");
+                    throw new IllegalStateException("db down");
+                },
+                () -> current = new ArrayList<>()))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(journal.isReady()).isFalse();
+        assertThat(current).containsExactly("before", "during");
+
+        // 다음 재구성은 실패한 재구성 때의 이벤트를 다시 적용하지 않음
+        List<String> fresh = new ArrayList<>();
+        journal.rebuild(() -> fresh.add("loaded"), () -> current = fresh);
+        assertThat(current).containsExactly("loaded");
+    }
+
+    @Test
+    void readSeesInstalledState() {
+        List<String> fresh = new ArrayList<>(List.of("a", "b"));
+        journal.rebuild(() -> { }, () -> current = fresh);
+
+        assertThat(journal.read(() -> current.size())).isEqualTo(2);
+    }
+}
@@ -0,0 +1,258 @@
+package com.project.pjt_01.service;
+
+import com.project.pjt_01.domain.Emotion;
+import com.project.pjt_01.event.PostEvents.PostCreated;
+import com.project.pjt_01.event.PostEvents.PostHidden;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SearchIndexTest {
+
+    private static final String SYLLABLES = "가나다라마바사아";
+
+    @Test
+    void gramsSplitWordsIntoLowercaseBigrams() {
+        assertThat(SearchIndex.grams("오늘 날씨, Hello!")).containsExactly("오늘", "날씨", "he", "el", "ll", "lo");
+        assertThat(SearchIndex.grams("좋아요 좋아요")).containsExactly("좋아", "아요");
+        assertThat(SearchIndex.grams("a b 가")).isEmpty();
+    }
+
+    @Test
+    void searchRejectsShortQueriesAndUnreadyIndex() {
+        SearchIndex index = new SearchIndex(new PostsTable(), true, 10, 0.8, 0.5);
+        assertThatThrownBy(() -> index.search("오늘", null)).isInstanceOf(IllegalStateException.class);
+
+        index.rebuild();
+        assertThatThrownBy(() -> index.search("가 a", null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void missingGramsCountTowardsRequiredMatches() {
+        PostsTable posts = new PostsTable();
+        posts.insert(1L, Emotion.JOY, "오늘 날씨");
+        posts.insert(2L, Emotion.JOY, "오늘");
+
+        // 오늘, 날씨, 힣힣(없음) → 0.8 이면 3개 모두 필요
+        SearchIndex strict = new SearchIndex(posts, true, 10, 0.8, 0.5);
+        strict.rebuild();
+        assertThat(strict.search("오늘 날씨 힣힣", null)).isEmpty();
+
+        // 0.6 이면 2개 → 오늘 + 날씨 가 모두 있는 글만
+        SearchIndex loose = new SearchIndex(posts, true, 10, 0.6, 0.5);
+        loose.rebuild();
+        assertThat(loose.search("오늘 날씨 힣힣", null)).containsExactly(1L);
+    }
+
+    @Test
+    void hiddenAndOtherEmotionPostsAreFilteredAndTiesPreferNewest() {
+        PostsTable posts = new PostsTable();
+        posts.insert(1L, Emotion.JOY, "바다 여행");
+        posts.insert(2L, Emotion.JOY, "바다 여행");
+        posts.insert(3L, Emotion.ANGER, "바다 여행");
+        posts.insert(4L, Emotion.JOY, "바다");
+        SearchIndex index = new SearchIndex(posts, true, 2, 0.5, 0.5);
+        index.rebuild();
+
+        assertThat(index.search("바다 여행", null)).containsExactly(3L, 2L);   // max-results 2
+        assertThat(index.search("바다 여행", Emotion.JOY)).containsExactly(2L, 1L);
+
+        index.onPostHidden(new PostHidden(2L, Emotion.JOY));
+        index.onPostCreated(new PostCreated(5L, Emotion.JOY, "여행 가요", LocalDateTime.now()));
+
+        assertThat(index.search("바다 여행", Emotion.JOY)).containsExactly(1L, 5L);
+        assertThat(index.search("바다 여행", Emotion.ANGER)).containsExactly(3L);
+    }
+
+    @Test
+    void randomSearchesMatchBruteForce() {
+        assertMatchesBruteForce(new Random(11), 300, 0.6);
+    }
+
+    @Test
+    void randomSearchesWithCommonGramsMatchBruteForce() {
+        // 글 1000개 이상 → 흔한 bigram(좋아, 아요) 제외가 동작
+        assertMatchesBruteForce(new Random(23), 1_500, 0.7);
+    }
+
+    private static void assertMatchesBruteForce(Random random, int postCount, double minMatch) {
+        PostsTable posts = new PostsTable();
+        Oracle oracle = new Oracle(minMatch, 0.5, 20);
+        long id = 1;
+        for (; id <= postCount; id++) {
+            Emotion emotion = randomEmotion(random);
+            String content = randomText(random);
+            if (random.nextInt(10) == 0) {
+                continue;   // 재구성 전에 숨김된 글: 색인에 없음
+            }
+            posts.insert(id, emotion, content);
+            oracle.index(id, emotion, content);
+        }
+        SearchIndex index = new SearchIndex(posts, true, 20, minMatch, 0.5);
+        index.rebuild();
+
+        // 재구성 후 이벤트: 새 글 + 숨김 (숨김 글의 포스팅은 다음 재구성까지 남음)
+        for (int i = 0; i < postCount / 10; i++, id++) {
+            Emotion emotion = randomEmotion(random);
+            String content = randomText(random);
+            index.onPostCreated(new PostCreated(id, emotion, content, LocalDateTime.now()));
+            oracle.index(id, emotion, content);
+        }
+        for (int i = 0; i < postCount / 10; i++) {
+            long hidden = 1 + random.nextInt((int) id - 1);
+            Emotion emotion = oracle.docs.get(hidden);
+            if (emotion != null) {
+                index.onPostHidden(new PostHidden(hidden, emotion));
+                oracle.docs.remove(hidden);
+            }
+        }
+
+        for (int i = 0; i < 500; i++) {
+            String query = randomText(random);
+            if (random.nextInt(4) == 0) {
+                query += " 힣힣";   // 색인에 없는 bigram
+            }
+            Emotion emotion = random.nextBoolean() ? null : randomEmotion(random);
+
+            assertThat(index.search(query, emotion)).as("%s / %s", query, emotion)
+                    .containsExactlyElementsOf(oracle.search(query, emotion));
+        }
+    }
+
+    // 좁은 음절 집합으로 bigram 이 자주 겹치게, 대부분 글에 "좋아요" 를 붙여 흔한 bigram 을 만듦
+    private static String randomText(Random random) {
+        StringBuilder text = new StringBuilder();
+        int words = 1 + random.nextInt(3);
+        for (int w = 0; w < words; w++) {
+            int length = 2 + random.nextInt(3);
+            for (int c = 0; c < length; c++) {
+                text.append(SYLLABLES.charAt(random.nextInt(SYLLABLES.length())));
+            }
+            text.append(' ');
+        }
+        if (random.nextInt(10) < 7) {
+            text.append("좋아요");
+        }
+        return text.toString();
+    }
+
+    private static Emotion randomEmotion(Random random) {
+        return Emotion.values()[random.nextInt(3)];
+    }
+
+    // 모든 공개 글을 훑어 같은 규칙(필요 수 / 흔한 bigram 제외 / IDF 합 / 최신순)으로 순위를 매김
+    private static final class Oracle {
+        private final double minMatch;
+        private final double commonRatio;
+        private final int maxResults;
+        // 포스팅 (숨김 이벤트로는 빠지지 않음)
+        private final Map<Long, Set<String>> indexed = new HashMap<>();
+        private final Map<Long, Emotion> docs = new TreeMap<>();
+
+        Oracle(double minMatch, double commonRatio, int maxResults) {
+            this.minMatch = minMatch;
+            this.commonRatio = commonRatio;
+            this.maxResults = maxResults;
+        }
+
+        void index(long id, Emotion emotion, String content) {
+            indexed.put(id, SearchIndex.grams(content));
+            docs.put(id, emotion);
+        }
+
+        List<Long> search(String query, Emotion emotion) {
+            int docCount = Math.max(1, docs.size());
+            Map<String, Integer> df = new HashMap<>();
+            for (Set<String> grams : indexed.values()) {
+                grams.forEach(gram -> df.merge(gram, 1, Integer::sum));
+            }
+
+            Set<String> queryGrams = SearchIndex.grams(query);
+            List<String> present = new ArrayList<>(queryGrams.stream().filter(df::containsKey).toList());
+            int missing = queryGrams.size() - present.size();
+            if (docCount >= 1000) {
+                List<String> rare = present.stream().filter(gram -> df.get(gram) < commonRatio * docCount).toList();
+                if (!rare.isEmpty()) {
+                    present = new ArrayList<>(rare);
+                }
+            }
+            int required = Math.max(1, (int) Math.ceil((missing + present.size()) * minMatch));
+            if (present.size() < required) {
+                return List.of();
+            }
+            // 색인과 같은 순서로 더해 부동소수 합이 같게
+            present.sort(Comparator.comparingInt(df::get));
+
+            Map<Long, Double> scores = new HashMap<>();
+            for (Map.Entry<Long, Emotion> doc : docs.entrySet()) {
+                if (emotion != null && doc.getValue() != emotion) {
+                    continue;
+                }
+                Set<String> grams = indexed.get(doc.getKey());
+                int matched = 0;
+                double score = 0;
+                for (String gram : present) {
+                    if (grams.contains(gram)) {
+                        matched++;
+                        score += Math.log(1.0 + (double) docCount / df.get(gram));
+                    }
+                }
+                if (matched >= required) {
+                    scores.put(doc.getKey(), score);
+                }
+            }
+            return scores.entrySet().stream()
+                    .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                            .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed()))
+                    .limit(maxResults)
+                    .map(Map.Entry::getKey)
+                    .toList();
+        }
+    }
+
+    private static class PostsTable extends JdbcTemplate {
+
+        private final List<Object[]> rows = new ArrayList<>();
+
+        void insert(long id, Emotion emotion, String content) {
+            rows.add(new Object[] {id, emotion.name(), content});
+        }
+
+        @Override
+        public void query(String sql, RowCallbackHandler handler) {
+            try {
+                for (Object[] row : rows.stream().sorted(Comparator.comparingLong(r -> (long) r[0])).toList()) {
+                    handler.processRow(resultSet(row));
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        // getLong / getString(컬럼 번호)만 지원하는 한 행짜리 ResultSet
+        private static ResultSet resultSet(Object[] row) {
+            return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[] {ResultSet.class},
+                    (proxy, method, args) -> switch (method.getName()) {
+                        case "getLong" -> (Long) row[(Integer) args[0] - 1];
+                        case "getString" -> (String) row[(Integer) args[0] - 1];
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    });
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.project.pjt_01.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SortedIdsTest {
+
+    @Test
+    void outOfOrderInsertsStaySortedWithoutDuplicates() {
+        SortedIds ids = new SortedIds(1);
+        for (long id : new long[] {50, 10, 30, 70, 10, 60, 20, 70}) {
+            ids.add(id);
+        }
+
+        assertThat(contents(ids)).containsExactly(10L, 20L, 30L, 50L, 60L, 70L);
+    }
+
+    @Test
+    void removeKeepsOrderAndIgnoresMissingIds() {
+        SortedIds ids = new SortedIds();
+        for (long id = 1; id <= 5; id++) {
+            ids.add(id * 10);
+        }
+
+        ids.remove(30);
+        ids.remove(10);
+        ids.remove(50);
+        ids.remove(35);
+
+        assertThat(contents(ids)).containsExactly(20L, 40L);
+        ids.remove(20);
+        ids.remove(40);
+        assertThat(ids.size()).isZero();
+        ids.remove(40);
+        assertThat(ids.size()).isZero();
+    }
+
+    @Test
+    void newestPagesFromTheEnd() {
+        SortedIds ids = new SortedIds();
+        for (long id = 1; id <= 5; id++) {
+            ids.add(id);
+        }
+
+        assertThat(ids.newest(0, 2)).containsExactly(5L, 4L);
+        assertThat(ids.newest(2, 2)).containsExactly(3L, 2L);
+        assertThat(ids.newest(4, 2)).containsExactly(1L);
+        assertThat(ids.newest(5, 2)).isEmpty();
+        assertThat(ids.newest(Long.MAX_VALUE, 2)).isEmpty();
+    }
+
+    @Test
+    void lowerBoundSearchesFromGivenPosition() {
+        SortedIds ids = new SortedIds();
+        for (long id : new long[] {10, 20, 30, 40}) {
+            ids.add(id);
+        }
+
+        assertThat(ids.lowerBound(5, 0)).isZero();
+        assertThat(ids.lowerBound(20, 0)).isEqualTo(1);
+        assertThat(ids.lowerBound(25, 0)).isEqualTo(2);
+        assertThat(ids.lowerBound(25, 3)).isEqualTo(3);
+        assertThat(ids.lowerBound(45, 0)).isEqualTo(4);
+    }
+
+    @Test
+    void randomInsertsAndRemovesMatchTreeSet() {
+        Random random = new Random(7);
+        SortedIds ids = new SortedIds(4);
+        TreeSet<Long> expected = new TreeSet<>();
+        for (int i = 0; i < 50_000; i++) {
+            long id = 1 + random.nextInt(5_000);
+            if (random.nextInt(3) == 0) {
+                ids.remove(id);
+                expected.remove(id);
+            } else {
+                ids.add(id);
+                expected.add(id);
+            }
+        }
+
+        assertThat(contents(ids)).containsExactlyElementsOf(expected);
+    }
+
+    private static Long[] contents(SortedIds ids) {
+        Long[] result = new Long[ids.size()];
+        for (int i = 0; i < ids.size(); i++) {
+            result[i] = ids.get(i);
+        }
+        return result;
+    }
+}
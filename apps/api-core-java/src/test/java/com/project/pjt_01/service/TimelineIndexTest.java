@@ -0,0 +1,177 @@
+package com.project.pjt_01.service;
+
+import com.project.pjt_01.domain.Emotion;
+import com.project.pjt_01.event.PostEvents.PostCreated;
+import com.project.pjt_01.event.PostEvents.PostHidden;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimelineIndexTest {
+
+    @Test
+    void pagesNewestFirstPerEmotion() {
+        PostsTable posts = new PostsTable();
+        posts.insert(1L, Emotion.JOY);
+        posts.insert(2L, Emotion.ANGER);
+        posts.insert(3L, Emotion.JOY);
+        TimelineIndex index = new TimelineIndex(posts, true);
+        index.rebuild();
+
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.page(null, 0, 2).ids()).containsExactly(3L, 2L);
+        assertThat(index.page(null, 1, 2).ids()).containsExactly(1L);
+        assertThat(index.page(null, 0, 2).total()).isEqualTo(3);
+        assertThat(index.page(Emotion.JOY, 0, 10).ids()).containsExactly(3L, 1L);
+        assertThat(index.page(Emotion.SADNESS, 0, 10).ids()).isEmpty();
+    }
+
+    @Test
+    void eventsUpdateTimelines() {
+        PostsTable posts = new PostsTable();
+        posts.insert(1L, Emotion.JOY);
+        TimelineIndex index = new TimelineIndex(posts, true);
+        index.rebuild();
+
+        index.onPostCreated(created(5L, Emotion.JOY));
+        index.onPostCreated(created(3L, Emotion.ANGER));   // 늦게 커밋된 앞 ID
+        index.onPostHidden(new PostHidden(1L, Emotion.JOY));
+
+        assertThat(index.page(null, 0, 10).ids()).containsExactly(5L, 3L);
+        assertThat(index.page(Emotion.JOY, 0, 10).ids()).containsExactly(5L);
+        assertThat(index.page(Emotion.ANGER, 0, 10).ids()).containsExactly(3L);
+    }
+
+    @Test
+    void eventsDuringRebuildAreKeptAfterSwap() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch applied = new CountDownLatch(1);
+        PostsTable posts = new PostsTable() {
+            @Override
+            public void query(String sql, RowCallbackHandler handler) {
+                loading.countDown();
+                await(applied);
+                super.query(sql, handler);
+            }
+        };
+        posts.insert(1L, Emotion.JOY);
+        posts.insert(2L, Emotion.JOY);
+        TimelineIndex index = new TimelineIndex(posts, true);
+
+        Thread rebuild = new Thread(index::rebuild);
+        rebuild.start();
+        await(loading);
+        // 조회 결과에 없는 작성 + 조회 결과에 있는 글 숨김 + 조회 결과에도 있는 작성(중복 적용)
+        index.onPostCreated(created(3L, Emotion.ANGER));
+        index.onPostHidden(new PostHidden(1L, Emotion.JOY));
+        index.onPostCreated(created(2L, Emotion.JOY));
+        applied.countDown();
+        rebuild.join(TimeUnit.SECONDS.toMillis(10));
+
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.page(null, 0, 10).ids()).containsExactly(3L, 2L);
+        assertThat(index.page(Emotion.JOY, 0, 10).ids()).containsExactly(2L);
+        assertThat(index.page(Emotion.ANGER, 0, 10).ids()).containsExactly(3L);
+    }
+
+    @Test
+    void concurrentWritesSurviveRepeatedRebuilds() throws Exception {
+        PostsTable posts = new PostsTable();
+        TimelineIndex index = new TimelineIndex(posts, true);
+        index.rebuild();
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread rebuilder = new Thread(() -> {
+            while (running.get()) {
+                index.rebuild();
+            }
+        });
+        rebuilder.start();
+        try {
+            for (long id = 1; id <= 5_000; id++) {
+                // 서비스와 같은 순서: 커밋 후 이벤트
+                posts.insert(id, Emotion.JOY);
+                index.onPostCreated(created(id, Emotion.JOY));
+                if (id % 3 == 0) {
+                    posts.hide(id);
+                    index.onPostHidden(new PostHidden(id, Emotion.JOY));
+                }
+            }
+        } finally {
+            running.set(false);
+            rebuilder.join(TimeUnit.SECONDS.toMillis(10));
+        }
+
+        long[] expected = posts.visibleIds().stream()
+                .sorted(Comparator.reverseOrder())
+                .mapToLong(Long::longValue)
+                .toArray();
+        assertThat(index.page(null, 0, 10_000).ids()).containsExactly(expected);
+        assertThat(index.page(Emotion.JOY, 0, 10_000).ids()).containsExactly(expected);
+    }
+
+    private static PostCreated created(long id, Emotion emotion) {
+        return new PostCreated(id, emotion, "내용", LocalDateTime.now());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // posts 테이블 대신 메모리 목록을 읽는 JdbcTemplate (id, emotion / 공개 글만, ID 순)
+    private static class PostsTable extends JdbcTemplate {
+
+        private final List<Object[]> rows = new CopyOnWriteArrayList<>();
+
+        void insert(long id, Emotion emotion) {
+            rows.add(new Object[] {id, emotion.name()});
+        }
+
+        void hide(long id) {
+            rows.removeIf(row -> (long) row[0] == id);
+        }
+
+        List<Long> visibleIds() {
+            return rows.stream().map(row -> (Long) row[0]).toList();
+        }
+
+        @Override
+        public void query(String sql, RowCallbackHandler handler) {
+            try {
+                for (Object[] row : rows.stream().sorted(Comparator.comparingLong(r -> (long) r[0])).toList()) {
+                    handler.processRow(resultSet(row));
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        // getLong / getString(컬럼 번호)만 지원하는 한 행짜리 ResultSet
+        private static ResultSet resultSet(Object[] row) {
+            return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[] {ResultSet.class},
+                    (proxy, method, args) -> switch (method.getName()) {
+                        case "getLong" -> (Long) row[(Integer) args[0] - 1];
+                        case "getString" -> (String) row[(Integer) args[0] - 1];
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    });
+        }
+    }
+}
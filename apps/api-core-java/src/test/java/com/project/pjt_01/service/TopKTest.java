@@ -0,0 +1,104 @@
+package com.project.pjt_01.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TopKTest {
+
+    @Test
+    void keepsHighestScoresWhenFull() {
+        TopK top = new TopK(3);
+        top.offer(1L, 10);
+        top.offer(2L, 40);
+        top.offer(3L, 20);
+        top.offer(4L, 30);
+        top.offer(5L, 5);
+
+        assertThat(top.size()).isEqualTo(3);
+        assertThat(top.top(10)).containsExactly(2L, 4L, 3L);
+        assertThat(top.top(2)).containsExactly(2L, 4L);
+    }
+
+    @Test
+    void raisedScoreMovesAwayFromRoot() {
+        TopK top = new TopK(3);
+        top.offer(1L, 10);
+        top.offer(2L, 20);
+        top.offer(3L, 30);
+
+        top.offer(1L, 50);
+        top.offer(4L, 25);   // 최저(20)인 2번이 밀려남
+
+        assertThat(top.top(3)).containsExactly(1L, 3L, 4L);
+    }
+
+    @Test
+    void loweredScoreMovesToRootAndIsEvictedFirst() {
+        TopK top = new TopK(3);
+        top.offer(1L, 10);
+        top.offer(2L, 20);
+        top.offer(3L, 30);
+
+        top.offer(3L, 5);
+        top.offer(4L, 15);   // 최저(5)인 3번이 밀려남
+
+        assertThat(top.contains(3L)).isFalse();
+        assertThat(top.top(3)).containsExactly(2L, 4L, 1L);
+    }
+
+    @Test
+    void retainIfRemovesAndKeepsHeapOrder() {
+        TopK top = new TopK(5);
+        for (long id = 1; id <= 5; id++) {
+            top.offer(id, id * 10);
+        }
+
+        assertThat(top.retainIf(id -> id != 1L && id != 4L)).isTrue();
+        assertThat(top.retainIf(id -> true)).isFalse();
+
+        assertThat(top.size()).isEqualTo(3);
+        top.offer(6L, 1);
+        top.offer(7L, 15);
+        top.offer(8L, 12);   // 가득 참 → 최저(1)인 6번이 밀려남
+        assertThat(top.top(5)).containsExactly(5L, 3L, 2L, 7L, 8L);
+    }
+
+    @Test
+    void randomUpdatesMatchFullSort() {
+        Random random = new Random(42);
+        TopK top = new TopK(20);
+        // 힙에서 밀려난 글은 다시 들어올 때 새 점수로만 비교되므로 기대값도 힙 기준으로 유지
+        Map<Long, Double> inHeap = new HashMap<>();
+        for (int i = 0; i < 20_000; i++) {
+            long id = 1 + random.nextInt(200);
+            double score = random.nextDouble() * 1_000;
+            top.offer(id, score);
+            if (inHeap.containsKey(id) || inHeap.size() < 20) {
+                inHeap.put(id, score);
+            } else {
+                Map.Entry<Long, Double> min = inHeap.entrySet().stream()
+                        .min(Map.Entry.comparingByValue()).orElseThrow();
+                if (score > min.getValue()) {
+                    inHeap.remove(min.getKey());
+                    inHeap.put(id, score);
+                }
+            }
+            if (i % 1_000 == 0) {
+                top.scale(0.5);
+                inHeap.replaceAll((k, v) -> v * 0.5);
+            }
+        }
+
+        long[] expected = inHeap.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder()))
+                .mapToLong(Map.Entry::getKey)
+                .toArray();
+        assertThat(top.top(20)).containsExactly(expected);
+    }
+}
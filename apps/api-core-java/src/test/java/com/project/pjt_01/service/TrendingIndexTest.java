@@ -0,0 +1,73 @@
+package com.project.pjt_01.service;
+
+import com.project.pjt_01.domain.ButtonType;
+import com.project.pjt_01.domain.Emotion;
+import com.project.pjt_01.event.PostEvents.ButtonClicked;
+import com.project.pjt_01.event.PostEvents.PostHidden;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrendingIndexTest {
+
+    @Test
+    void clicksRankPostsPerEmotionAndOverall() {
+        TrendingIndex index = new TrendingIndex(null, true, 3_600_000L, 604_800_000L, 10);
+        click(index, 1L, Emotion.JOY, 1);
+        click(index, 2L, Emotion.JOY, 3);
+        click(index, 3L, Emotion.ANGER, 2);
+
+        assertThat(index.top(null, 10)).containsExactly(2L, 3L, 1L);
+        assertThat(index.top(Emotion.JOY, 10)).containsExactly(2L, 1L);
+        assertThat(index.top(Emotion.ANGER, 10)).containsExactly(3L);
+        assertThat(index.top(null, 1)).containsExactly(2L);
+    }
+
+    @Test
+    void hiddenPostLeavesHeapsAndNextPostMovesUp() {
+        TrendingIndex index = new TrendingIndex(null, true, 3_600_000L, 604_800_000L, 2);
+        click(index, 1L, Emotion.JOY, 3);
+        click(index, 2L, Emotion.JOY, 2);
+        click(index, 3L, Emotion.JOY, 1);
+        assertThat(index.top(Emotion.JOY, 10)).containsExactly(1L, 2L);
+
+        index.onPostHidden(new PostHidden(1L, Emotion.JOY));
+
+        assertThat(index.top(Emotion.JOY, 10)).containsExactly(2L, 3L);
+        assertThat(index.top(null, 10)).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void postsDecayedAwayOnLandmarkMoveLeaveHeaps() throws InterruptedException {
+        // half-life 1ms → 수십 ms 뒤 클릭에서 기준시각 이동, 앞선 클릭 점수는 거의 0이 되어 정리됨
+        TrendingIndex index = new TrendingIndex(null, true, 1L, 604_800_000L, 10);
+        click(index, 1L, Emotion.JOY, 1);
+        click(index, 2L, Emotion.ANGER, 1);
+
+        Thread.sleep(100);
+        click(index, 3L, Emotion.JOY, 1);
+
+        assertThat(index.top(null, 10)).containsExactly(3L);
+        assertThat(index.top(Emotion.JOY, 10)).containsExactly(3L);
+        assertThat(index.top(Emotion.ANGER, 10)).isEmpty();
+    }
+
+    @Test
+    void pruneDropsDecayedPostsWithoutNewClicks() throws InterruptedException {
+        TrendingIndex index = new TrendingIndex(null, true, 1L, 604_800_000L, 10);
+        click(index, 1L, Emotion.JOY, 1);
+        assertThat(index.top(null, 10)).containsExactly(1L);
+
+        Thread.sleep(100);
+        index.prune();
+
+        assertThat(index.top(null, 10)).isEmpty();
+        assertThat(index.top(Emotion.JOY, 10)).isEmpty();
+    }
+
+    private static void click(TrendingIndex index, long postId, Emotion emotion, int times) {
+        for (int i = 0; i < times; i++) {
+            index.onButtonClicked(new ButtonClicked(postId, emotion, ButtonType.EMPATHY));
+        }
+    }
+}
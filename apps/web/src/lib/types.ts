@@ -24,8 +24,9 @@ export interface PostListResponse {
   items: PostResponse[];
   page: number;
   size: number;
-  totalElements: number;
-  totalPages: number;
+  totalElements: number;   // 커서 모드에서는 -1
+  totalPages: number;      // 커서 모드에서는 -1
+  nextCursor: string | null;
 }
 
 // 생성 요청